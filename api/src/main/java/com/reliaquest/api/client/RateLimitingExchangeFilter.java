@@ -0,0 +1,64 @@
+package com.reliaquest.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link RateLimitingInterceptor}: paces WebClient calls through the shared
+ * {@link UpstreamRateLimiter}, waiting on a timer instead of a sleeping thread, and feeds 429s back into it. Calls that
+ * would wait longer than {@code max-wait} are shed with a 429 carrying {@code Retry-After}. Throttled calls are not
+ * retried here; the 429 is returned to the caller.
+ */
+@Component
+public class RateLimitingExchangeFilter implements ExchangeFilterFunction {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitingExchangeFilter.class);
+
+    private final UpstreamRateLimiter rateLimiter;
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Clock clock = Clock.systemUTC();
+
+    public RateLimitingExchangeFilter(
+            UpstreamRateLimiter rateLimiter,
+            @Value("${employee.rate-limit.enabled:true}") boolean enabled,
+            @Value("${employee.rate-limit.max-wait:5s}") Duration maxWait) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            Duration wait = rateLimiter.reserve(maxWait);
+            if (wait == null) {
+                logger.warn("Shedding {} {}: upstream rate limit", request.method(), request.url());
+                return Mono.error(RateLimitingInterceptor.tooManyRequests(rateLimiter.blockedFor()));
+            }
+            Mono<ClientResponse> exchange = next.exchange(request).doOnNext(response -> {
+                if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    String retryAfter = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                    rateLimiter.onThrottled(RateLimitingInterceptor.parseRetryAfter(retryAfter, clock));
+                    logger.warn("Upstream throttled {} {}", request.method(), request.url());
+                } else {
+                    rateLimiter.onAdmitted();
+                }
+            });
+            return wait.isZero() ? exchange : Mono.delay(wait).then(exchange);
+        });
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Sends every upstream call through the {@link UpstreamRateLimiter} and retries throttled idempotent calls.
+ *
+ * <p>Calls that would wait longer than {@code max-wait} for the limiter are shed with a 429 carrying
+ * {@code Retry-After}. A 429 from upstream blocks the limiter; GETs are then retried up to {@code max-retries} times
+ * after the block plus a jittered exponential backoff, as long as that stays within {@code max-wait}. Other methods
+ * and exhausted retries return the 429 unchanged, so {@code CustomRestTemplateErrorHandler} reports it as before.
+ */
+@Component
+public class RateLimitingInterceptor implements ClientHttpRequestInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitingInterceptor.class);
+
+    private final UpstreamRateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int maxRetries;
+    private final Duration maxWait;
+    private final Duration retryBackoff;
+    private final Clock clock;
+
+    @Autowired
+    public RateLimitingInterceptor(
+            UpstreamRateLimiter rateLimiter,
+            @Value("${employee.rate-limit.enabled:true}") boolean enabled,
+            @Value("${employee.rate-limit.max-retries:3}") int maxRetries,
+            @Value("${employee.rate-limit.max-wait:5s}") Duration maxWait,
+            @Value("${employee.rate-limit.retry-backoff:200ms}") Duration retryBackoff) {
+        this(rateLimiter, enabled, maxRetries, maxWait, retryBackoff, Clock.systemUTC());
+    }
+
+    public RateLimitingInterceptor(
+            UpstreamRateLimiter rateLimiter,
+            boolean enabled,
+            int maxRetries,
+            Duration maxWait,
+            Duration retryBackoff,
+            Clock clock) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+        this.maxRetries = maxRetries;
+        this.maxWait = maxWait;
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!enabled) {
+            return execution.execute(request, body);
+        }
+        boolean idempotent = request.getMethod() == HttpMethod.GET;
+        for (int attempt = 0; ; attempt++) {
+            Duration wait = rateLimiter.reserve(maxWait);
+            if (wait == null) {
+                logger.warn("Shedding {} {}: upstream rate limit", request.getMethod(), request.getURI());
+                throw tooManyRequests(rateLimiter.blockedFor());
+            }
+            sleep(wait);
+
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rateLimiter.onAdmitted();
+                return response;
+            }
+
+            Duration blocked = rateLimiter.onThrottled(retryAfter(response.getHeaders()));
+            if (!idempotent || attempt >= maxRetries || blocked.compareTo(maxWait) > 0) {
+                logger.warn("Upstream throttled {} {}, not retrying", request.getMethod(), request.getURI());
+                return response;
+            }
+            response.close();
+            Duration backoff = jitteredBackoff(attempt);
+            logger.debug(
+                    "Upstream throttled {} {}, retry {} in {} ms",
+                    request.getMethod(),
+                    request.getURI(),
+                    attempt + 1,
+                    blocked.plus(backoff).toMillis());
+            sleep(backoff);
+        }
+    }
+
+    /** Full jitter: uniformly random up to {@code retry-backoff * 2^attempt}. */
+    private Duration jitteredBackoff(int attempt) {
+        long ceiling = retryBackoff.toNanos() << Math.min(attempt, 16);
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    /**
+     * The error a shed call fails with, shaped like the one {@code CustomRestTemplateErrorHandler} raises for an
+     * upstream 429.
+     */
+    static HttpClientErrorException tooManyRequests(Duration blockedFor) {
+        long retryAfterSeconds = Math.max(1, (blockedFor.toMillis() + 999) / 1000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        String message = "Rate limit exceeded (HTTP 429). For Employees Server Please try again after "
+                + retryAfterSeconds + " seconds.";
+        return new HttpClientErrorException(
+                HttpStatus.TOO_MANY_REQUESTS, message, headers, new byte[0], StandardCharsets.UTF_8);
+    }
+
+    Duration retryAfter(HttpHeaders headers) {
+        return parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER), clock);
+    }
+
+    /**
+     * Parses {@code Retry-After} as delay seconds or an HTTP date.
+     *
+     * @return the delay, or {@code null} if the header is missing or malformed
+     */
+    static Duration parseRetryAfter(String value, Clock clock) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(clock.instant(), at.toInstant());
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException malformed) {
+                logger.debug("Ignoring malformed Retry-After: {}", value);
+                return null;
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) throws InterruptedIOException {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the upstream rate limit");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses concurrent identical upstream requests into one.
+ *
+ * <p>The first caller for a key becomes the leader and runs the request; callers arriving while it is in flight wait
+ * on the leader's {@link CompletableFuture} and share its result or failure. The key is dropped as soon as the request
+ * completes, so nothing is cached: a caller arriving afterwards issues a fresh request. Issued and coalesced counts
+ * are published as the {@code employee.upstream.requests} counter, tagged by outcome.
+ */
+@Component
+public class RequestCoalescer implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs {@code request}, or joins the in-flight request with the same {@code key}.
+     *
+     * @throws RuntimeException the leader's failure, rethrown to every caller that joined it
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> request) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            issued.increment();
+            try {
+                flight.complete(request.get());
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, flight);
+            }
+            existing = flight;
+        } else {
+            coalesced.increment();
+            logger.debug("Joining in-flight upstream request {}", key);
+        }
+
+        try {
+            return (T) existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public long issuedCount() {
+        return issued.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.upstream.requests", issued, LongAdder::sum)
+                .tag("outcome", "issued")
+                .description("Upstream requests actually sent")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.requests", coalesced, LongAdder::sum)
+                .tag("outcome", "coalesced")
+                .description("Upstream requests served by joining an identical in-flight request")
+                .register(registry);
+    }
+}
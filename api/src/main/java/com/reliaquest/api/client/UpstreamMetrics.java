@@ -0,0 +1,255 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.query.CountingInputStream;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every upstream call and measures its payloads, per {@link UpstreamOperation}.
+ *
+ * <p>Installed as the innermost RestTemplate interceptor, so each attempt the {@link RateLimitingInterceptor} lets
+ * through is timed on its own, retries included, and time spent waiting for the limiter is not. A call is timed from
+ * sending the request until its response is closed, which includes reading the body. Published meters:
+ * <ul>
+ *   <li>{@code employee.upstream.calls}: timer tagged by operation and outcome, with p50, p95 and p99 and a
+ *       percentile histogram
+ *   <li>{@code employee.upstream.payload}: body sizes in bytes, tagged by operation and direction; a response counts
+ *       the bytes actually read
+ *   <li>{@code employee.upstream.throttled}: 429s that {@code CustomRestTemplateErrorHandler} raised to the caller,
+ *       i.e. that retries did not absorb, tagged by operation
+ * </ul>
+ *
+ * <p>Each meter is registered on first use and then kept in an array, so recording a call costs two clock reads, an
+ * array lookup and the meter's own lock-free update, without building tags or looking meters up in the registry.
+ * Calls made before the meters are bound are not timed.
+ */
+@Component
+public class UpstreamMetrics implements ClientHttpRequestInterceptor, MeterBinder {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final int OPERATIONS = UpstreamOperation.values().length;
+
+    private final String basePath;
+    private final LongAdder[] throttled = new LongAdder[OPERATIONS];
+    private volatile Meters meters;
+
+    public UpstreamMetrics(@Value("${employee.api.base-url}") String baseUrl) {
+        this.basePath = URI.create(baseUrl).getRawPath();
+        for (int i = 0; i < throttled.length; i++) {
+            throttled[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Meters bound = meters;
+        if (bound == null) {
+            return execution.execute(request, body);
+        }
+        UpstreamOperation operation = operation(request.getMethod(), request.getURI());
+        if (body.length > 0) {
+            bound.payload(operation, Direction.REQUEST).record(body.length);
+        }
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException e) {
+            bound.calls(operation, Outcome.IO_ERROR).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        return new MeteredResponse(response, bound, operation, Outcome.of(response.getStatusCode()), start);
+    }
+
+    public UpstreamOperation operation(HttpMethod method, URI uri) {
+        return UpstreamOperation.of(method, uri, basePath);
+    }
+
+    /**
+     * Counts a 429 raised to the caller of {@code operation}.
+     */
+    public void recordThrottled(UpstreamOperation operation) {
+        throttled[operation.ordinal()].increment();
+    }
+
+    public long throttledCount(UpstreamOperation operation) {
+        return throttled[operation.ordinal()].sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            FunctionCounter.builder("employee.upstream.throttled", throttled[operation.ordinal()], LongAdder::sum)
+                    .tag("operation", operation.tag())
+                    .description("Upstream 429s raised to the caller after retries")
+                    .register(registry);
+        }
+        meters = new Meters(registry);
+    }
+
+    private enum Outcome {
+        SUCCESS("success"),
+        THROTTLED("throttled"),
+        CLIENT_ERROR("client-error"),
+        SERVER_ERROR("server-error"),
+        IO_ERROR("io-error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        static Outcome of(HttpStatusCode status) {
+            if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                return THROTTLED;
+            }
+            if (status.is5xxServerError()) {
+                return SERVER_ERROR;
+            }
+            return status.is4xxClientError() ? CLIENT_ERROR : SUCCESS;
+        }
+    }
+
+    private enum Direction {
+        REQUEST("request"),
+        RESPONSE("response");
+
+        private final String tag;
+
+        Direction(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final class Meters {
+        private final MeterRegistry registry;
+        private final AtomicReferenceArray<Timer> calls =
+                new AtomicReferenceArray<>(OPERATIONS * Outcome.values().length);
+        private final AtomicReferenceArray<DistributionSummary> payloads =
+                new AtomicReferenceArray<>(OPERATIONS * Direction.values().length);
+
+        private Meters(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        Timer calls(UpstreamOperation operation, Outcome outcome) {
+            int index = operation.ordinal() * Outcome.values().length + outcome.ordinal();
+            Timer timer = calls.get(index);
+            if (timer == null) {
+                // The registry returns the same meter to concurrent first callers
+                timer = Timer.builder("employee.upstream.calls")
+                        .tag("operation", operation.tag())
+                        .tag("outcome", outcome.tag)
+                        .description("Upstream calls, from sending the request until the response is closed")
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry);
+                calls.set(index, timer);
+            }
+            return timer;
+        }
+
+        DistributionSummary payload(UpstreamOperation operation, Direction direction) {
+            int index = operation.ordinal() * Direction.values().length + direction.ordinal();
+            DistributionSummary summary = payloads.get(index);
+            if (summary == null) {
+                summary = DistributionSummary.builder("employee.upstream.payload")
+                        .tag("operation", operation.tag())
+                        .tag("direction", direction.tag)
+                        .baseUnit("bytes")
+                        .description("Upstream request and response body sizes")
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(64.0)
+                        .maximumExpectedValue(256.0 * 1024 * 1024)
+                        .register(registry);
+                payloads.set(index, summary);
+            }
+            return summary;
+        }
+    }
+
+    /**
+     * Records the call once the response is closed, which RestTemplate does after extracting the body.
+     */
+    private static final class MeteredResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Meters meters;
+        private final UpstreamOperation operation;
+        private final Outcome outcome;
+        private final long startNanos;
+        private CountingInputStream body;
+        private boolean recorded;
+
+        private MeteredResponse(
+                ClientHttpResponse delegate, Meters meters, UpstreamOperation operation, Outcome outcome, long start) {
+            this.delegate = delegate;
+            this.meters = meters;
+            this.operation = operation;
+            this.outcome = outcome;
+            this.startNanos = start;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (!recorded) {
+                    recorded = true;
+                    meters.calls(operation, outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    if (body != null) {
+                        meters.payload(operation, Direction.RESPONSE).record(body.count());
+                    }
+                }
+            }
+        }
+    }
+}
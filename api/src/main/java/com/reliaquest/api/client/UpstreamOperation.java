@@ -0,0 +1,48 @@
+package com.reliaquest.api.client;
+
+import java.net.URI;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Upstream calls tracked by {@link UpstreamMetrics}, published as the {@code operation} tag.
+ */
+public enum UpstreamOperation {
+    GET_ALL("get-all"),
+    GET_BY_ID("get-by-id"),
+    /** List reads with filter, sort or limit parameters: pushed-down queries and capability probes. */
+    QUERY("query"),
+    CREATE("create"),
+    DELETE("delete"),
+    OTHER("other");
+
+    private final String tag;
+
+    UpstreamOperation(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * @param basePath path of {@code employee.api.base-url}
+     */
+    public static UpstreamOperation of(HttpMethod method, URI uri, String basePath) {
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        boolean onBase = path.equals(basePath) || path.equals(basePath + "/");
+        if (method == HttpMethod.GET) {
+            if (onBase) {
+                return uri.getRawQuery() == null ? GET_ALL : QUERY;
+            }
+            return path.startsWith(basePath + "/") ? GET_BY_ID : OTHER;
+        }
+        if (method == HttpMethod.POST && onBase) {
+            return CREATE;
+        }
+        if (method == HttpMethod.DELETE && onBase) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,180 @@
+package com.reliaquest.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side token bucket in front of the employee API that adapts to the limit the upstream enforces.
+ *
+ * <p>Calls reserve a token before going upstream. A caller that would have to wait longer than its allowance is shed
+ * instead of queued. When upstream answers 429 the bucket is blocked until the {@code Retry-After} instant (or an
+ * exponentially growing backoff when none is given) and then starts full again. Capacity and refill rate are re-learned
+ * from how many calls upstream admitted since the previous throttle, so later bursts stay under the limit instead of
+ * probing it again.
+ *
+ * <p>Callers never wait while holding the lock; {@link #reserve(Duration)} only computes the delay. The lock is a
+ * {@link ReentrantLock} so that contended callers on virtual threads park instead of pinning their carrier.
+ */
+@Component
+public class UpstreamRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRateLimiter.class);
+
+    static final Duration MAX_BLOCK = Duration.ofMinutes(2);
+
+    private final Clock clock;
+    private final Duration initialBackoff;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double capacity;
+    private double refillPerSecond;
+    private double tokens;
+    private Instant lastRefill;
+    private Instant blockedUntil;
+    private Instant windowStart;
+    private int admittedInWindow;
+    private int consecutiveThrottles;
+
+    @Autowired
+    public UpstreamRateLimiter(
+            @Value("${employee.rate-limit.initial-capacity:100}") int initialCapacity,
+            @Value("${employee.rate-limit.initial-rate:100}") double initialRatePerSecond,
+            @Value("${employee.rate-limit.initial-backoff:1s}") Duration initialBackoff) {
+        this(initialCapacity, initialRatePerSecond, initialBackoff, Clock.systemUTC());
+    }
+
+    public UpstreamRateLimiter(
+            int initialCapacity, double initialRatePerSecond, Duration initialBackoff, Clock clock) {
+        if (initialCapacity < 1 || initialRatePerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and rate must be positive");
+        }
+        this.clock = clock;
+        this.initialBackoff = initialBackoff;
+        this.capacity = initialCapacity;
+        this.refillPerSecond = initialRatePerSecond;
+        this.tokens = initialCapacity;
+        this.lastRefill = clock.instant();
+        this.blockedUntil = lastRefill;
+        this.windowStart = lastRefill;
+    }
+
+    /**
+     * Reserves one call. The token is taken immediately; the caller must wait the returned delay before calling.
+     *
+     * @return how long to wait before calling upstream, or {@code null} if that would exceed {@code maxWait} and the
+     *     call should be shed; nothing is reserved in that case
+     */
+    public Duration reserve(Duration maxWait) {
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            refill(now);
+            long waitNanos = Math.max(0, Duration.between(now, blockedUntil).toNanos());
+            if (tokens < 1) {
+                // Refill only starts once any block is over
+                waitNanos += (long) ((1 - tokens) / refillPerSecond * 1_000_000_000L);
+            }
+            Duration wait = Duration.ofNanos(waitNanos);
+            if (wait.compareTo(maxWait) > 0) {
+                return null;
+            }
+            tokens -= 1;
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a call upstream accepted.
+     */
+    public void onAdmitted() {
+        lock.lock();
+        try {
+            admittedInWindow++;
+            consecutiveThrottles = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a 429 and blocks the bucket.
+     *
+     * @param retryAfter delay upstream asked for, or {@code null} if it gave none
+     * @return how long the bucket is now blocked for
+     */
+    public Duration onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            Duration block = retryAfter != null ? retryAfter : backoff(consecutiveThrottles);
+            if (block.compareTo(MAX_BLOCK) > 0) {
+                block = MAX_BLOCK;
+            }
+            consecutiveThrottles++;
+            if (admittedInWindow > 0) {
+                // Upstream let admittedInWindow calls through before pushing back, then needs the block to recover
+                Duration window = Duration.between(windowStart, now).plus(block);
+                capacity = admittedInWindow;
+                refillPerSecond = admittedInWindow / Math.max(0.001, window.toNanos() / 1e9);
+                logger.info(
+                        "Upstream throttled after {} calls; limiting to {} calls, {} per second",
+                        admittedInWindow,
+                        (int) capacity,
+                        String.format("%.3f", refillPerSecond));
+            }
+            Instant until = now.plus(block);
+            if (until.isAfter(blockedUntil)) {
+                blockedUntil = until;
+            }
+            // Upstream starts a fresh window once the block is over
+            tokens = capacity;
+            lastRefill = blockedUntil;
+            windowStart = blockedUntil;
+            admittedInWindow = 0;
+            return Duration.between(now, blockedUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how long calls are blocked by a previous throttle, zero if they are not
+     */
+    public Duration blockedFor() {
+        lock.lock();
+        try {
+            Duration remaining = Duration.between(clock.instant(), blockedUntil);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double capacity() {
+        lock.lock();
+        try {
+            return capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(Instant now) {
+        if (now.isAfter(lastRefill)) {
+            double elapsedSeconds = Duration.between(lastRefill, now).toNanos() / 1e9;
+            tokens = Math.min(capacity, tokens + elapsedSeconds * refillPerSecond);
+            lastRefill = now;
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        return initialBackoff.multipliedBy(1L << Math.min(attempt, 16));
+    }
+}
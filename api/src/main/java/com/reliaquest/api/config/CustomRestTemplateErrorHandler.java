@@ -2,11 +2,14 @@ package com.reliaquest.api.config;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.UpstreamMetrics;
 
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpResponse;
@@ -18,6 +21,27 @@ import org.springframework.web.client.HttpClientErrorException;
 public class CustomRestTemplateErrorHandler extends DefaultResponseErrorHandler {
     private static final Logger logger = LoggerFactory.getLogger(CustomRestTemplateErrorHandler.class);
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UpstreamMetrics upstreamMetrics;
+
+    public CustomRestTemplateErrorHandler() {
+        this(null);
+    }
+
+    /**
+     * @param upstreamMetrics counts the 429s raised to callers, or {@code null} to count nothing
+     */
+    public CustomRestTemplateErrorHandler(UpstreamMetrics upstreamMetrics) {
+        this.upstreamMetrics = upstreamMetrics;
+    }
+
+    @Override
+    public void handleError(@NonNull URI url, @NonNull HttpMethod method, @NonNull ClientHttpResponse response)
+            throws IOException {
+        if (upstreamMetrics != null && response.getStatusCode().value() == 429) {
+            upstreamMetrics.recordThrottled(upstreamMetrics.operation(method, url));
+        }
+        super.handleError(url, method, response);
+    }
 
     @Override
     public void handleError(@NonNull ClientHttpResponse response) throws IOException {
@@ -0,0 +1,72 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RateLimitingExchangeFilter;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking client for the employee API, used when {@code employee.controller.mode=reactive}. Shares the
+ * {@code employee.http.*} pool and timeout settings with the blocking client.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.controller.mode", havingValue = "reactive")
+public class ReactiveClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeApiConnectionProvider(
+            @Value("${employee.http.max-connections:200}") int maxConnections,
+            @Value("${employee.http.pool-acquire-timeout:2s}") Duration poolAcquireTimeout,
+            @Value("${employee.http.idle-eviction:30s}") Duration idleEviction,
+            @Value("${employee.http.connection-ttl:5m}") Duration connectionTtl) {
+        return ConnectionProvider.builder("employee-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(poolAcquireTimeout)
+                // Waiters queue without a thread each; bound them so overload fails fast instead of growing forever
+                .pendingAcquireMaxCount(maxConnections * 50)
+                .maxIdleTime(idleEviction)
+                .maxLifeTime(connectionTtl)
+                .evictInBackground(idleEviction)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient employeeApiWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider employeeApiConnectionProvider,
+            RateLimitingExchangeFilter rateLimitingExchangeFilter,
+            @Value("${employee.api.base-url}") String baseUrl,
+            @Value("${employee.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.http.read-timeout:10s}") Duration readTimeout,
+            @Value("${employee.reactive.max-in-memory-size:64MB}") DataSize maxInMemorySize) {
+        HttpClient httpClient = HttpClient.create(employeeApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+
+        // Same JSON handling as the RestTemplate
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        return builder.baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+                    codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes());
+                })
+                .filter(rateLimitingExchangeFilter)
+                .build();
+    }
+}
@@ -2,16 +2,84 @@ package com.reliaquest.api.config;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RateLimitingInterceptor;
+import com.reliaquest.api.client.UpstreamMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestConfig {
+
+    /*
+     * One pool shared by every upstream call. Connections are kept alive and reused across requests, capped per route
+     * so a slow upstream cannot take every connection, and evicted once idle or past their time to live.
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager employeeApiConnectionManager(
+            @Value("${employee.http.max-connections:200}") int maxConnections,
+            @Value("${employee.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${employee.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.http.read-timeout:10s}") Duration readTimeout,
+            @Value("${employee.http.connection-ttl:5m}") Duration connectionTtl) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public CloseableHttpClient employeeApiHttpClient(
+            PoolingHttpClientConnectionManager employeeApiConnectionManager,
+            @Value("${employee.http.pool-acquire-timeout:2s}") Duration poolAcquireTimeout,
+            @Value("${employee.http.read-timeout:10s}") Duration readTimeout,
+            @Value("${employee.http.idle-eviction:30s}") Duration idleEviction) {
+        return HttpClients.custom()
+                .setConnectionManager(employeeApiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    /*
+     * Publishes httpcomponents.httpclient.pool.* gauges (leased, available, pending, max) for the upstream pool.
+     */
+    @Bean
+    public MeterBinder employeeApiConnectionPoolMetrics(
+            PoolingHttpClientConnectionManager employeeApiConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(employeeApiConnectionManager, "employee-api");
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+            CloseableHttpClient employeeApiHttpClient,
+            RateLimitingInterceptor rateLimitingInterceptor,
+            UpstreamMetrics upstreamMetrics) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(employeeApiHttpClient));
 
         // Configure JSON handling
         MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
@@ -21,8 +89,13 @@ public class RestConfig {
         converter.setObjectMapper(mapper);
         restTemplate.getMessageConverters().add(0, converter);
 
+        // Pace and retry upstream calls around its rate limit
+        restTemplate.getInterceptors().add(rateLimitingInterceptor);
+        // Innermost, so each attempt is timed on its own and limiter waits are not
+        restTemplate.getInterceptors().add(upstreamMetrics);
+
         // Set custom error handler
-        restTemplate.setErrorHandler(new CustomRestTemplateErrorHandler());
+        restTemplate.setErrorHandler(new CustomRestTemplateErrorHandler(upstreamMetrics));
 
         return restTemplate;
     }
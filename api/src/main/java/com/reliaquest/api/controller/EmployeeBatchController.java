@@ -0,0 +1,46 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeBatchService;
+import com.reliaquest.api.validation.EmployeeValidator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Batch variants of the create and delete endpoints of {@link IEmployeeController}. A batch is validated as a whole
+ * before any upstream call is made; once dispatched, each item gets its own result in request order.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/batch")
+public class EmployeeBatchController {
+
+    private final EmployeeBatchService batchService;
+    private final int maxBatchSize;
+
+    public EmployeeBatchController(
+            EmployeeBatchService batchService, @Value("${employee.batch.max-size:1000}") int maxBatchSize) {
+        this.batchService = batchService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostMapping()
+    public ResponseEntity<List<BatchItemResult<Employee>>> createEmployees(
+            @RequestBody List<EmployeeInput> employeeInputs) {
+        EmployeeValidator.validateEmployeeInputs(employeeInputs, maxBatchSize);
+        return ResponseEntity.ok(batchService.createEmployees(employeeInputs));
+    }
+
+    @DeleteMapping()
+    public ResponseEntity<List<BatchItemResult<String>>> deleteEmployees(@RequestBody List<String> ids) {
+        EmployeeValidator.validateEmployeeIds(ids, maxBatchSize);
+        return ResponseEntity.ok(batchService.deleteEmployees(ids));
+    }
+}
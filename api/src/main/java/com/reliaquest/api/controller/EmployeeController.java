@@ -7,6 +7,7 @@ import com.reliaquest.api.validation.EmployeeValidator;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/employee")
 @Validated
+@ConditionalOnProperty(name = "employee.controller.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
     private final EmployeeService employeeService;
@@ -0,0 +1,88 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.validation.EmployeeValidator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive variant of {@link EmployeeController}, active when {@code employee.controller.mode=reactive}.
+ *
+ * <p>Every endpoint of {@link IEmployeeController} is mapped here with the same path, body and status codes, but
+ * returns a {@link Mono} of the same {@link ResponseEntity}. Spring MVC completes such responses asynchronously, so the
+ * servlet thread goes back to the pool while the upstream call is in flight. The class cannot implement
+ * {@link IEmployeeController} itself: that contract returns {@code ResponseEntity} synchronously and must not change.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+@Validated
+@ConditionalOnProperty(name = "employee.controller.mode", havingValue = "reactive")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService.getAllEmployees().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return employeeService.searchEmployeesByName(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(
+            @PathVariable @NotBlank(message = "Employee ID cannot be blank") @Valid String id) {
+        return employeeService
+                .getEmployeeById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalary().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().map(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody EmployeeInput employeeInput) {
+        // Use the separate validator class
+        EmployeeValidator.validateEmployeeInput(employeeInput);
+
+        return employeeService
+                .createEmployee(employeeInput)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        // Use the separate validator class
+        EmployeeValidator.validateEmployeeId(id);
+        return employeeService.deleteEmployeeById(id).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request, in the position the item had in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, boolean success, T data, String error) {
+
+    public static <T> BatchItemResult<T> succeeded(int index, T data) {
+        return new BatchItemResult<>(index, true, data, null);
+    }
+
+    public static <T> BatchItemResult<T> failed(int index, String error) {
+        return new BatchItemResult<>(index, false, null, error);
+    }
+}
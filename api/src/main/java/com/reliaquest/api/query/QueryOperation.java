@@ -0,0 +1,24 @@
+package com.reliaquest.api.query;
+
+/**
+ * Upstream reads tracked by {@link QueryStats}, published as the {@code operation} tag.
+ */
+public enum QueryOperation {
+    SEARCH("search"),
+    HIGHEST_SALARY("highest-salary"),
+    TOP_EARNERS("top-earners"),
+    /** Lookup of the employees sharing a delete target's name, since upstream deletes by name. */
+    DELETE_CHECK("delete-check"),
+    /** Full roster fetched into the roster cache; the reads it serves are counted as {@link QueryStrategy#LOCAL}. */
+    ROSTER_LOAD("roster-load");
+
+    private final String tag;
+
+    QueryOperation(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
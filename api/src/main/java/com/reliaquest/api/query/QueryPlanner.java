@@ -0,0 +1,59 @@
+package com.reliaquest.api.query;
+
+import com.reliaquest.api.roster.RosterCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chooses how each filtered or ranked read of {@code EmployeeService} is satisfied.
+ *
+ * <p>A read the cached roster can answer without going upstream is evaluated locally. Otherwise, with
+ * {@code employee.query.pushdown.enabled} set and an upstream that honors the list query parameters, the work is
+ * pushed upstream so only the matching rows are transferred. Everything else falls back to fetching the whole roster:
+ * streamed when {@code employee.streaming.enabled} is set, or loaded into the roster cache.
+ */
+@Component
+public class QueryPlanner {
+
+    private final RosterCache rosterCache;
+    private final UpstreamCapabilities capabilities;
+    private final boolean pushdownEnabled;
+    private final boolean streamingReads;
+
+    /**
+     * @param streamingReads fall back to folding over a fresh upstream response as it is parsed, instead of loading
+     *     the roster cache; a streaming fallback never reads the cache
+     */
+    @Autowired
+    public QueryPlanner(
+            RosterCache rosterCache,
+            UpstreamCapabilities capabilities,
+            @Value("${employee.query.pushdown.enabled:false}") boolean pushdownEnabled,
+            @Value("${employee.streaming.enabled:false}") boolean streamingReads) {
+        if (pushdownEnabled && capabilities == null) {
+            throw new IllegalArgumentException("Pushdown needs upstream capabilities");
+        }
+        this.rosterCache = rosterCache;
+        this.capabilities = capabilities;
+        this.pushdownEnabled = pushdownEnabled;
+        this.streamingReads = streamingReads;
+    }
+
+    public static QueryPlanner withoutPushdown(RosterCache rosterCache, boolean streamingReads) {
+        return new QueryPlanner(rosterCache, null, false, streamingReads);
+    }
+
+    /**
+     * @return {@link QueryStrategy#PUSHDOWN}, {@link QueryStrategy#STREAMED} or {@link QueryStrategy#LOCAL}
+     */
+    public QueryStrategy plan() {
+        if (!streamingReads && rosterCache.hasFreshSnapshot()) {
+            return QueryStrategy.LOCAL;
+        }
+        if (pushdownEnabled && capabilities.supportsPushdown()) {
+            return QueryStrategy.PUSHDOWN;
+        }
+        return streamingReads ? QueryStrategy.STREAMED : QueryStrategy.LOCAL;
+    }
+}
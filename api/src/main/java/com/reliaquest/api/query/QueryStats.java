@@ -0,0 +1,91 @@
+package com.reliaquest.api.query;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts how each upstream read was satisfied and what it transferred, so the effect of pushing work upstream can be
+ * measured.
+ *
+ * <p>Counters are kept per {@link QueryOperation} and {@link QueryStrategy} and published as
+ * {@code employee.query.executions}, {@code employee.query.rows} and {@code employee.query.bytes}, tagged by both.
+ * Streamed and pushed-down reads count the exact body bytes read. A buffered roster load only knows its size from
+ * {@code Content-Length}; loads without one add no bytes and are counted in {@code employee.query.unmeasured}
+ * instead.
+ */
+@Component
+public class QueryStats implements MeterBinder {
+
+    private final Counters[][] counters =
+            new Counters[QueryOperation.values().length][QueryStrategy.values().length];
+
+    public QueryStats() {
+        for (Counters[] byStrategy : counters) {
+            for (int i = 0; i < byStrategy.length; i++) {
+                byStrategy[i] = new Counters();
+            }
+        }
+    }
+
+    /**
+     * @param rows employees transferred from upstream, {@code 0} for reads answered from memory
+     * @param bytes response body bytes transferred, or a negative value if unknown
+     */
+    public void record(QueryOperation operation, QueryStrategy strategy, long rows, long bytes) {
+        Counters target = counters[operation.ordinal()][strategy.ordinal()];
+        target.executions.increment();
+        target.rows.add(rows);
+        if (bytes >= 0) {
+            target.bytes.add(bytes);
+        } else {
+            target.unmeasured.increment();
+        }
+    }
+
+    public Snapshot snapshot(QueryOperation operation, QueryStrategy strategy) {
+        Counters source = counters[operation.ordinal()][strategy.ordinal()];
+        return new Snapshot(
+                source.executions.sum(), source.rows.sum(), source.bytes.sum(), source.unmeasured.sum());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (QueryOperation operation : QueryOperation.values()) {
+            for (QueryStrategy strategy : QueryStrategy.values()) {
+                Counters source = counters[operation.ordinal()][strategy.ordinal()];
+                counter("employee.query.executions", source.executions, operation, strategy)
+                        .description("Upstream reads by how they were satisfied")
+                        .register(registry);
+                counter("employee.query.rows", source.rows, operation, strategy)
+                        .description("Employees transferred from upstream")
+                        .register(registry);
+                counter("employee.query.bytes", source.bytes, operation, strategy)
+                        .baseUnit("bytes")
+                        .description("Response body bytes transferred from upstream")
+                        .register(registry);
+                counter("employee.query.unmeasured", source.unmeasured, operation, strategy)
+                        .description("Upstream responses whose size was unknown")
+                        .register(registry);
+            }
+        }
+    }
+
+    private static FunctionCounter.Builder<LongAdder> counter(
+            String name, LongAdder adder, QueryOperation operation, QueryStrategy strategy) {
+        return FunctionCounter.builder(name, adder, LongAdder::sum)
+                .tag("operation", operation.tag())
+                .tag("strategy", strategy.tag());
+    }
+
+    public record Snapshot(long executions, long rows, long bytes, long unmeasured) {}
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder unmeasured = new LongAdder();
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.query;
+
+/**
+ * How a read was satisfied, chosen per call by {@link QueryPlanner}.
+ */
+public enum QueryStrategy {
+    /** Filter, sort and limit sent upstream as query parameters; only the matching rows are transferred. */
+    PUSHDOWN,
+    /** Full roster folded over while the upstream response is parsed, without being cached. */
+    STREAMED,
+    /** Answered from the cached roster, which is loaded in full first if it is missing or expired. */
+    LOCAL,
+    /** Full roster transferred to fill the roster cache. */
+    FULL_FETCH;
+
+    public String tag() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.api.query;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.roster.EmployeeStreamReader;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Finds out whether the upstream honors the list query parameters used by {@link UpstreamQueries}.
+ *
+ * <p>Two probes are sent: a name filter no employee can match, which must come back empty, and a one-row salary page
+ * projected to the salary. An upstream that ignores the parameters answers both with its whole roster. Support needs a
+ * positive signal: the salary page comes back projected, without names, or holds fewer rows than the unparameterised
+ * list. An upstream holding no employee, or one whose single row carries its name, answers alike whether it applies
+ * the parameters or not, so that result is unknown. The result is kept for {@code employee.query.probe-interval}, so
+ * an upstream upgraded or rolled back while we run is picked up. A failed or unknown probe leaves the previous result
+ * in place and is retried on the next read; until one has succeeded, pushdown is treated as unsupported.
+ */
+@Component
+public class UpstreamCapabilities {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamCapabilities.class);
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Duration probeInterval;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Probe probe;
+
+    @Autowired
+    public UpstreamCapabilities(
+            RestTemplate restTemplate,
+            @Value("${employee.api.base-url}") String baseUrl,
+            @Value("${employee.query.probe-interval:10m}") Duration probeInterval) {
+        this(restTemplate, baseUrl, probeInterval, Clock.systemUTC());
+    }
+
+    public UpstreamCapabilities(RestTemplate restTemplate, String baseUrl, Duration probeInterval, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.probeInterval = probeInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * @return whether filter, sort, limit and projection parameters are applied by upstream; probes upstream when the
+     *     last result is older than the probe interval
+     */
+    public boolean supportsPushdown() {
+        Probe current = probe;
+        if (current != null && !isExpired(current)) {
+            return current.supported();
+        }
+        // One caller re-probes; the others go on with the previous answer instead of queueing behind it
+        if (!lock.tryLock()) {
+            return current != null && current.supported();
+        }
+        try {
+            current = probe;
+            if (current == null || isExpired(current)) {
+                current = runProbe(current);
+            }
+            return current != null && current.supported();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Probe runProbe(Probe previous) {
+        URI impossibleName = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("name", UUID.randomUUID())
+                .queryParam("fields", "name")
+                .build()
+                .encode()
+                .toUri();
+        try {
+            Boolean supported = probeSupport(impossibleName);
+            if (supported == null) {
+                logger.debug("Upstream query support unknown: the probes cannot tell an empty or one-row roster apart");
+                return previous;
+            }
+            if (previous == null || previous.supported() != supported) {
+                logger.info("Upstream {} list query parameters", supported ? "supports" : "does not support");
+            }
+            Probe next = new Probe(supported, clock.instant());
+            probe = next;
+            return next;
+        } catch (RuntimeException e) {
+            logger.warn("Probing upstream query support failed: {}", e.getMessage());
+            return previous;
+        }
+    }
+
+    /**
+     * @return whether upstream applies the parameters, or {@code null} when its answers do not tell
+     */
+    private Boolean probeSupport(URI impossibleName) {
+        if (countRows(impossibleName) > 0) {
+            return false;
+        }
+        List<Employee> top = rows(UpstreamQueries.topBySalary(baseUrl, 1, "salary"));
+        if (top.size() > 1) {
+            return false;
+        }
+        if (top.isEmpty()) {
+            return null;
+        }
+        if (top.get(0).getName() == null) {
+            return true;
+        }
+        // Projection was not applied; only a longer unparameterised list shows that the limit was
+        return countRows(URI.create(baseUrl)) > 1 ? true : null;
+    }
+
+    private int countRows(URI uri) {
+        Integer rows = restTemplate.execute(
+                uri,
+                HttpMethod.GET,
+                restTemplate.acceptHeaderRequestCallback(EmployeeResponse.class),
+                response -> EmployeeStreamReader.read(response.getBody(), employee -> {}));
+        return rows == null ? 0 : rows;
+    }
+
+    private List<Employee> rows(URI uri) {
+        List<Employee> rows = new ArrayList<>();
+        restTemplate.execute(
+                uri,
+                HttpMethod.GET,
+                restTemplate.acceptHeaderRequestCallback(EmployeeResponse.class),
+                response -> EmployeeStreamReader.read(response.getBody(), rows::add));
+        return rows;
+    }
+
+    private boolean isExpired(Probe probe) {
+        return Duration.between(probe.probedAt(), clock.instant()).compareTo(probeInterval) >= 0;
+    }
+
+    private record Probe(boolean supported, Instant probedAt) {}
+}
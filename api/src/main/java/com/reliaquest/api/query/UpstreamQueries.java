@@ -0,0 +1,42 @@
+package com.reliaquest.api.query;
+
+import java.net.URI;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Builds upstream list requests that push filtering, ordering, paging and projection to the employee API, using the
+ * query parameters of its {@code GET /api/v1/employee}: {@code name}, {@code sort}, {@code limit} and {@code fields}.
+ * An upstream without query support ignores them and returns the whole roster, which {@link UpstreamCapabilities}
+ * detects before any of these are sent.
+ */
+public final class UpstreamQueries {
+
+    private UpstreamQueries() {}
+
+    /**
+     * Employees whose name contains {@code searchString}, case-insensitively, in roster order. The search string is
+     * expanded as a URI variable, so characters legal in a query but meaningful to it, such as {@code +}, {@code &}
+     * and {@code %}, are percent-encoded rather than passed through.
+     */
+    public static URI nameContains(String baseUrl, String searchString) {
+        return UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("name", "{name}")
+                .encode()
+                .buildAndExpand(searchString)
+                .toUri();
+    }
+
+    /**
+     * The {@code limit} highest earners, highest salary first, carrying only {@code fields}. Upstream orders equal
+     * salaries by id and employees without a salary last.
+     */
+    public static URI topBySalary(String baseUrl, int limit, String... fields) {
+        return UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("sort", "salary_desc")
+                .queryParam("limit", "{limit}")
+                .queryParam("fields", String.join(",", fields))
+                .encode()
+                .buildAndExpand(limit)
+                .toUri();
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.roster;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads the {@code data} employees of an upstream employee response one at a time.
+ *
+ * <p>The body is parsed token by token and each employee is handed to the consumer as soon as its object is complete,
+ * so callers can fold over the roster without the response or the list ever being held in memory. Other envelope
+ * fields are skipped. A single {@code data} object is read as a one-element list, as the buffered client does. Null
+ * elements of {@code data} are skipped; any other non-object element fails the read rather than ending it early.
+ */
+public final class EmployeeStreamReader {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectReader EMPLOYEE_READER = MAPPER.readerFor(Employee.class);
+
+    private EmployeeStreamReader() {}
+
+    /**
+     * @return the number of employees passed to {@code consumer}
+     */
+    public static int read(InputStream body, Consumer<Employee> consumer) throws IOException {
+        int count = 0;
+        try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return 0;
+            }
+            if (first != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an employee response object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"data".equals(field)) {
+                    parser.skipChildren();
+                } else if (value == JsonToken.START_ARRAY) {
+                    for (JsonToken element = parser.nextToken();
+                            element != JsonToken.END_ARRAY;
+                            element = parser.nextToken()) {
+                        if (element == JsonToken.START_OBJECT) {
+                            consumer.accept(EMPLOYEE_READER.readValue(parser));
+                            count++;
+                        } else if (element != JsonToken.VALUE_NULL) {
+                            throw new JsonParseException(parser, "Expected an employee object in data");
+                        }
+                    }
+                } else if (value == JsonToken.START_OBJECT) {
+                    consumer.accept(EMPLOYEE_READER.readValue(parser));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,244 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trigram index answering case-insensitive substring queries over employee names.
+ *
+ * <p>Names are normalized once with {@link String#toLowerCase()} when indexed, the same normalization the query gets,
+ * so results are exactly those of {@code name.toLowerCase().contains(query.toLowerCase())}, in roster order. Queries
+ * of three or more characters intersect the posting lists of their trigrams and verify the surviving candidates;
+ * shorter queries scan the pre-normalized names.
+ *
+ * <p>The posting lists are built once per roster snapshot. Local writes are layered on top: removed employees are
+ * masked out and added employees are kept in a small, linearly scanned tail. Once the layered writes grow past
+ * {@link #COMPACTION_THRESHOLD} or an eighth of the base, the index is rebuilt from its live entries.
+ */
+public final class NameIndex {
+
+    static final int COMPACTION_THRESHOLD = 64;
+
+    private static final int GRAM = 3;
+
+    private final Employee[] documents;
+    private final String[] normalizedNames;
+    private final Map<Long, int[]> postings;
+    private final Set<Employee> removed;
+    private final List<Employee> added;
+    private final List<String> addedNormalizedNames;
+
+    private NameIndex(
+            Employee[] documents,
+            String[] normalizedNames,
+            Map<Long, int[]> postings,
+            Set<Employee> removed,
+            List<Employee> added,
+            List<String> addedNormalizedNames) {
+        this.documents = documents;
+        this.normalizedNames = normalizedNames;
+        this.postings = postings;
+        this.removed = removed;
+        this.added = added;
+        this.addedNormalizedNames = addedNormalizedNames;
+    }
+
+    static NameIndex build(Collection<Employee> roster) {
+        Employee[] documents = roster.stream()
+                .filter(employee -> employee.getName() != null)
+                .toArray(Employee[]::new);
+        String[] normalizedNames = new String[documents.length];
+        Map<Long, PostingList> builders = new HashMap<>();
+        for (int ordinal = 0; ordinal < documents.length; ordinal++) {
+            String normalized = normalize(documents[ordinal].getName());
+            normalizedNames[ordinal] = normalized;
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                builders.computeIfAbsent(trigram(normalized, i), key -> new PostingList())
+                        .add(ordinal);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+        return new NameIndex(
+                documents,
+                normalizedNames,
+                postings,
+                Collections.newSetFromMap(new IdentityHashMap<>()),
+                List.of(),
+                List.of());
+    }
+
+    NameIndex withAdded(Employee employee) {
+        return withChanges(List.of(), List.of(employee));
+    }
+
+    NameIndex withRemoved(Employee employee) {
+        return withChanges(List.of(employee), List.of());
+    }
+
+    /**
+     * Layers a batch of local writes over the index, copying the layered state once for the whole batch.
+     */
+    NameIndex withChanges(Collection<Employee> removedEmployees, Collection<Employee> addedEmployees) {
+        List<Employee> nextAdded = new ArrayList<>(added.size() + addedEmployees.size());
+        List<String> nextAddedNames = new ArrayList<>(added.size() + addedEmployees.size());
+        Set<Employee> nextRemoved = Collections.newSetFromMap(new IdentityHashMap<>());
+        nextRemoved.addAll(removed);
+        Set<Employee> tail = Collections.newSetFromMap(new IdentityHashMap<>());
+        tail.addAll(added);
+        Set<Employee> droppedFromTail = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean changed = false;
+        for (Employee employee : removedEmployees) {
+            if (tail.contains(employee)) {
+                changed |= droppedFromTail.add(employee);
+            } else if (employee.getName() != null) {
+                changed |= nextRemoved.add(employee);
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            if (!droppedFromTail.contains(added.get(i))) {
+                nextAdded.add(added.get(i));
+                nextAddedNames.add(addedNormalizedNames.get(i));
+            }
+        }
+        for (Employee employee : addedEmployees) {
+            if (employee.getName() != null) {
+                nextAdded.add(employee);
+                nextAddedNames.add(normalize(employee.getName()));
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return this;
+        }
+        return compactIfNeeded(
+                new NameIndex(documents, normalizedNames, postings, nextRemoved, nextAdded, nextAddedNames));
+    }
+
+    /**
+     * @return employees whose lower-cased name contains the lower-cased {@code query}, in roster order
+     */
+    public List<Employee> search(String query) {
+        String needle = normalize(query);
+        List<Employee> matches = new ArrayList<>();
+        if (needle.length() < GRAM) {
+            for (int ordinal = 0; ordinal < documents.length; ordinal++) {
+                collectIfMatches(ordinal, needle, matches);
+            }
+        } else {
+            for (int ordinal : candidates(needle)) {
+                collectIfMatches(ordinal, needle, matches);
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            if (addedNormalizedNames.get(i).contains(needle)) {
+                matches.add(added.get(i));
+            }
+        }
+        return matches;
+    }
+
+    private void collectIfMatches(int ordinal, String needle, List<Employee> matches) {
+        if (normalizedNames[ordinal].contains(needle) && !removed.contains(documents[ordinal])) {
+            matches.add(documents[ordinal]);
+        }
+    }
+
+    /** Base ordinals containing every trigram of {@code needle}, ascending. */
+    private int[] candidates(String needle) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            grams.add(trigram(needle, i));
+        }
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private NameIndex compactIfNeeded(NameIndex index) {
+        int layered = index.added.size() + index.removed.size();
+        if (layered <= Math.max(COMPACTION_THRESHOLD, index.documents.length / 8)) {
+            return index;
+        }
+        return build(index.liveEntries());
+    }
+
+    private List<Employee> liveEntries() {
+        List<Employee> live = new ArrayList<>(documents.length + added.size());
+        for (Employee document : documents) {
+            if (!removed.contains(document)) {
+                live.add(document);
+            }
+        }
+        live.addAll(added);
+        return live;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] out = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                out[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase();
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static final class PostingList {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            // A name repeating a trigram must only be listed once
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process cache holding a single {@link RosterSnapshot} of the upstream roster.
+ *
+ * <p>Reads within the TTL are served from memory. Once a snapshot is older than the refresh-ahead threshold a
+ * background reload is started while the current snapshot keeps being served. At most one upstream load is in flight
+ * at any time; concurrent callers that miss all wait on that load. If a load fails while a snapshot younger than
+ * {@code max-stale} exists, the stale snapshot is served instead of the error. A TTL of zero disables caching.
+ *
+ * <p>The held snapshot is published as the {@code employee.roster.size} and {@code employee.roster.age} gauges, and
+ * completed upstream loads as the {@code employee.roster.loads} counter.
+ */
+@Component
+public class RosterCache implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(RosterCache.class);
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    public static final double DEFAULT_REFRESH_AHEAD = 0.8;
+    public static final Duration DEFAULT_MAX_STALE = Duration.ofMinutes(10);
+
+    private final Duration ttl;
+    private final Duration refreshAfter;
+    private final Duration maxStale;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<RosterSnapshot>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public RosterCache(
+            @Value("${employee.cache.ttl:30s}") Duration ttl,
+            @Value("${employee.cache.refresh-ahead:0.8}") double refreshAhead,
+            @Value("${employee.cache.max-stale:10m}") Duration maxStale,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(ttl, refreshAhead, maxStale, Clock.systemUTC(), virtualThreads);
+    }
+
+    public RosterCache(Duration ttl, double refreshAhead, Duration maxStale, Clock clock) {
+        this(ttl, refreshAhead, maxStale, clock, false);
+    }
+
+    /**
+     * @param virtualThreads run background refreshes on virtual threads, matching the request threads when
+     *     {@code spring.threads.virtual.enabled} is set
+     */
+    public RosterCache(Duration ttl, double refreshAhead, Duration maxStale, Clock clock, boolean virtualThreads) {
+        if (refreshAhead <= 0 || refreshAhead > 1) {
+            throw new IllegalArgumentException("Refresh-ahead ratio must be in (0, 1]");
+        }
+        this.ttl = ttl;
+        this.refreshAfter = Duration.ofMillis((long) (ttl.toMillis() * refreshAhead));
+        this.maxStale = maxStale;
+        this.clock = clock;
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("roster-refresh").factory()
+                : Thread.ofPlatform().name("roster-refresh").daemon(true).factory();
+        this.refreshExecutor =
+                new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    public static RosterCache withDefaults() {
+        return new RosterCache(DEFAULT_TTL, DEFAULT_REFRESH_AHEAD, DEFAULT_MAX_STALE, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the current roster snapshot, loading it through {@code loader} when missing or expired.
+     *
+     * @param loader upstream fetch of the full roster
+     * @return a fresh or, if the upstream is failing, a stale snapshot
+     * @throws RuntimeException the loader's failure when no usable stale snapshot exists
+     */
+    public RosterSnapshot snapshot(Supplier<List<Employee>> loader) {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            Duration age = Duration.between(snapshot.fetchedAt(), clock.instant());
+            if (age.compareTo(ttl) < 0) {
+                if (age.compareTo(refreshAfter) >= 0) {
+                    refreshAsync(loader);
+                }
+                return snapshot;
+            }
+        }
+        return load(loader, snapshot);
+    }
+
+    /**
+     * @return whether a snapshot within the TTL is held, so that {@link #snapshot(Supplier)} would not go upstream
+     */
+    public boolean hasFreshSnapshot() {
+        RosterSnapshot snapshot = current.get();
+        return snapshot != null
+                && Duration.between(snapshot.fetchedAt(), clock.instant()).compareTo(ttl) < 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.roster.size", this, RosterCache::snapshotSize)
+                .description("Employees in the cached roster snapshot")
+                .register(registry);
+        Gauge.builder("employee.roster.age", this, RosterCache::snapshotAgeSeconds)
+                .baseUnit("seconds")
+                .description("Time since the cached roster snapshot was fetched")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.loads", versions, AtomicLong::get)
+                .description("Roster snapshots loaded from upstream")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private RosterSnapshot load(Supplier<List<Employee>> loader, RosterSnapshot stale) {
+        CompletableFuture<RosterSnapshot> flight = new CompletableFuture<>();
+        CompletableFuture<RosterSnapshot> existing = inFlight.compareAndExchange(null, flight);
+        if (existing == null) {
+            runLoad(loader, flight);
+            existing = flight;
+        } else {
+            logger.debug("Joining in-flight roster load");
+        }
+
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (stale != null && isServableWhenStale(stale)) {
+                logger.warn(
+                        "Roster load failed, serving stale snapshot version {}: {}",
+                        stale.version(),
+                        e.getCause().getMessage());
+                return stale;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void refreshAsync(Supplier<List<Employee>> loader) {
+        CompletableFuture<RosterSnapshot> flight = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, flight)) {
+            return;
+        }
+        logger.debug("Starting refresh-ahead of roster");
+        try {
+            refreshExecutor.execute(() -> runLoad(loader, flight));
+        } catch (RejectedExecutionException e) {
+            flight.completeExceptionally(e);
+            inFlight.compareAndSet(flight, null);
+        }
+        flight.whenComplete((snapshot, ex) -> {
+            if (ex != null) {
+                logger.warn("Refresh-ahead of roster failed: {}", ex.getMessage());
+            }
+        });
+    }
+
+    private void runLoad(Supplier<List<Employee>> loader, CompletableFuture<RosterSnapshot> flight) {
+        try {
+            List<Employee> employees = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+            RosterSnapshot snapshot = new RosterSnapshot(versions.incrementAndGet(), employees, clock.instant());
+            current.set(snapshot);
+            flight.complete(snapshot);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+        } finally {
+            inFlight.compareAndSet(flight, null);
+        }
+    }
+
+    private double snapshotSize() {
+        RosterSnapshot snapshot = current.get();
+        return snapshot == null ? Double.NaN : snapshot.employees().size();
+    }
+
+    private double snapshotAgeSeconds() {
+        RosterSnapshot snapshot = current.get();
+        return snapshot == null
+                ? Double.NaN
+                : Duration.between(snapshot.fetchedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private boolean isServableWhenStale(RosterSnapshot snapshot) {
+        Instant oldestServable = clock.instant().minus(maxStale);
+        return snapshot.fetchedAt().isAfter(oldestServable);
+    }
+}
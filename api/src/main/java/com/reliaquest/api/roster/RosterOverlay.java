@@ -0,0 +1,146 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versioned record of the writes this service has made upstream but may not yet see in a {@link RosterSnapshot}.
+ *
+ * <p>Created employees and deleted ids are merged over every snapshot handed to {@link #apply(RosterSnapshot)}, which
+ * gives read-your-writes consistency without refetching the roster after each mutation. An entry is dropped once a
+ * snapshot reflects it (the created id is present, the deleted id is absent) or once it is older than
+ * {@code retention}, which bounds the damage of a write that some other client undid upstream.
+ *
+ * <p>State is guarded by a {@link ReentrantLock} rather than {@code synchronized}: the merge logs while holding it, and
+ * a virtual thread blocking inside a monitor would pin its carrier thread.
+ */
+@Component
+public class RosterOverlay {
+    private static final Logger logger = LoggerFactory.getLogger(RosterOverlay.class);
+
+    public static final Duration DEFAULT_RETENTION = Duration.ofMinutes(5);
+
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<String, PendingWrite> created = new LinkedHashMap<>();
+    private final Map<String, PendingWrite> deleted = new LinkedHashMap<>();
+    private final Map<String, Employee> unapplied = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long version;
+    private RosterView view;
+
+    @Autowired
+    public RosterOverlay(@Value("${employee.overlay.retention:5m}") Duration retention) {
+        this(retention, Clock.systemUTC());
+    }
+
+    public RosterOverlay(Duration retention, Clock clock) {
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    public static RosterOverlay withDefaults() {
+        return new RosterOverlay(DEFAULT_RETENTION, Clock.systemUTC());
+    }
+
+    /**
+     * Records an employee the upstream has confirmed as created.
+     */
+    public void recordCreated(Employee employee) {
+        lock.lock();
+        try {
+            version++;
+            deleted.remove(employee.getId());
+            created.put(employee.getId(), new PendingWrite(employee, version, clock.instant()));
+            queueForView(employee.getId(), employee);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records an employee id the upstream has confirmed as deleted.
+     */
+    public void recordDeleted(String id) {
+        lock.lock();
+        try {
+            version++;
+            created.remove(id);
+            deleted.put(id, new PendingWrite(null, version, clock.instant()));
+            queueForView(id, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code snapshot} with the pending writes merged over it. The merge is memoized per snapshot version;
+     * writes recorded afterwards are queued and folded into the memoized view in one batch by the next call.
+     */
+    public RosterView apply(RosterSnapshot snapshot) {
+        lock.lock();
+        try {
+            if (view != null && view.snapshotVersion() == snapshot.version()) {
+                if (!unapplied.isEmpty()) {
+                    view = view.withWrites(unapplied, version);
+                    unapplied.clear();
+                }
+                return view;
+            }
+            unapplied.clear();
+            prune(snapshot.employees());
+            List<Employee> pendingCreates =
+                    created.values().stream().map(PendingWrite::employee).toList();
+            view = RosterView.merge(snapshot, pendingCreates, deleted.keySet(), version);
+            logger.debug(
+                    "Merged roster snapshot version {} with overlay version {} ({} created, {} deleted pending)",
+                    snapshot.version(),
+                    version,
+                    created.size(),
+                    deleted.size());
+            return view;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a write for the memoized view, keeping only the latest write per id. Writes are O(1) under the lock; the
+     * copy of the view happens once per batch, on the next read.
+     */
+    private void queueForView(String id, Employee employee) {
+        if (view != null) {
+            unapplied.remove(id);
+            unapplied.put(id, employee);
+        }
+    }
+
+    private void prune(List<Employee> upstream) {
+        Set<String> upstreamIds = new HashSet<>(upstream.size());
+        for (Employee employee : upstream) {
+            upstreamIds.add(employee.getId());
+        }
+        Instant expiredBefore = clock.instant().minus(retention);
+        created.entrySet()
+                .removeIf(entry -> upstreamIds.contains(entry.getKey())
+                        || entry.getValue().recordedAt().isBefore(expiredBefore));
+        deleted.entrySet()
+                .removeIf(entry -> !upstreamIds.contains(entry.getKey())
+                        || entry.getValue().recordedAt().isBefore(expiredBefore));
+    }
+
+    private record PendingWrite(Employee employee, long version, Instant recordedAt) {}
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable, versioned copy of the upstream employee roster.
+ *
+ * @param version monotonically increasing load counter
+ * @param employees unmodifiable list of employees as returned by the upstream
+ * @param fetchedAt time the upstream fetch completed
+ */
+public record RosterSnapshot(long version, List<Employee> employees, Instant fetchedAt) {}
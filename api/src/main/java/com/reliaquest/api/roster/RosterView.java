@@ -0,0 +1,168 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable roster as seen by readers: an upstream {@link RosterSnapshot} with the local writes of a
+ * {@link RosterOverlay} merged over it.
+ *
+ * <p>Local writes recorded since a view was built are folded into it in one batch on the next read instead of being
+ * re-merged from the snapshot, so any number of writes between two reads costs a single copy of the roster. Indexes
+ * are carried over and maintained incrementally in the same way; they are only built from scratch when a new
+ * snapshot is merged.
+ * Exact name counts are kept alongside so the same-name check before a delete needs no scan.
+ */
+public final class RosterView {
+
+    private final long snapshotVersion;
+    private final long overlayVersion;
+    private final List<Employee> employees;
+    private final Map<String, Employee> employeesById;
+    private final Map<String, Integer> nameCounts;
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+
+    private RosterView(
+            long snapshotVersion,
+            long overlayVersion,
+            List<Employee> employees,
+            Map<String, Employee> employeesById,
+            Map<String, Integer> nameCounts,
+            SalaryIndex salaryIndex,
+            NameIndex nameIndex) {
+        this.snapshotVersion = snapshotVersion;
+        this.overlayVersion = overlayVersion;
+        this.employees = Collections.unmodifiableList(employees);
+        this.employeesById = employeesById;
+        this.nameCounts = nameCounts;
+        this.salaryIndex = salaryIndex;
+        this.nameIndex = nameIndex;
+    }
+
+    static RosterView merge(
+            RosterSnapshot snapshot, Collection<Employee> created, Set<String> deleted, long overlayVersion) {
+        List<Employee> employees = new ArrayList<>(snapshot.employees().size() + created.size());
+        Map<String, Employee> employeesById = new HashMap<>();
+        for (Employee employee : snapshot.employees()) {
+            if (!deleted.contains(employee.getId())) {
+                employees.add(employee);
+                employeesById.put(employee.getId(), employee);
+            }
+        }
+        for (Employee employee : created) {
+            if (employeesById.putIfAbsent(employee.getId(), employee) == null) {
+                employees.add(employee);
+            }
+        }
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (Employee employee : employees) {
+            countName(nameCounts, employee, 1);
+        }
+        return new RosterView(
+                snapshot.version(),
+                overlayVersion,
+                employees,
+                employeesById,
+                nameCounts,
+                SalaryIndex.build(employees),
+                NameIndex.build(employees));
+    }
+
+    /**
+     * Folds a batch of local writes into this view in one pass.
+     *
+     * @param writes employees by id in write order, a {@code null} value marking the id as deleted
+     */
+    RosterView withWrites(Map<String, Employee> writes, long overlayVersion) {
+        List<Employee> removed = new ArrayList<>();
+        List<Employee> added = new ArrayList<>();
+        for (Map.Entry<String, Employee> write : writes.entrySet()) {
+            Employee present = employeesById.get(write.getKey());
+            if (write.getValue() == null && present != null) {
+                removed.add(present);
+            } else if (write.getValue() != null && present == null) {
+                added.add(write.getValue());
+            }
+        }
+        if (removed.isEmpty() && added.isEmpty()) {
+            return withOverlayVersion(overlayVersion);
+        }
+        Set<Employee> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedSet.addAll(removed);
+        List<Employee> nextEmployees = new ArrayList<>(employees.size() - removed.size() + added.size());
+        for (Employee employee : employees) {
+            if (!removedSet.contains(employee)) {
+                nextEmployees.add(employee);
+            }
+        }
+        nextEmployees.addAll(added);
+        Map<String, Employee> nextById = new HashMap<>(employeesById);
+        Map<String, Integer> nextNameCounts = new HashMap<>(nameCounts);
+        for (Employee employee : removed) {
+            nextById.remove(employee.getId());
+            countName(nextNameCounts, employee, -1);
+        }
+        for (Employee employee : added) {
+            nextById.put(employee.getId(), employee);
+            countName(nextNameCounts, employee, 1);
+        }
+        return new RosterView(
+                snapshotVersion,
+                overlayVersion,
+                nextEmployees,
+                nextById,
+                nextNameCounts,
+                salaryIndex.withChanges(removed, added),
+                nameIndex.withChanges(removed, added));
+    }
+
+    private RosterView withOverlayVersion(long overlayVersion) {
+        return new RosterView(
+                snapshotVersion, overlayVersion, employees, employeesById, nameCounts, salaryIndex, nameIndex);
+    }
+
+    private static void countName(Map<String, Integer> nameCounts, Employee employee, int delta) {
+        if (employee.getName() != null) {
+            nameCounts.merge(employee.getName(), delta, (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public boolean contains(String id) {
+        return employeesById.containsKey(id);
+    }
+
+    /**
+     * @return how many employees have exactly this name
+     */
+    public int countByName(String name) {
+        return nameCounts.getOrDefault(name, 0);
+    }
+
+    public SalaryIndex salaryIndex() {
+        return salaryIndex;
+    }
+
+    public NameIndex nameIndex() {
+        return nameIndex;
+    }
+
+    public long snapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public long overlayVersion() {
+        return overlayVersion;
+    }
+}
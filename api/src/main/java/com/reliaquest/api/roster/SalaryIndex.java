@@ -0,0 +1,116 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable salary-ordered index over a roster.
+ *
+ * <p>Salaries are kept unboxed in an {@code int[]} sorted descending, with the owning employees in a parallel array.
+ * Employees with equal salaries keep their roster order, matching a stable sort of the roster. Reading the highest
+ * salary is O(1) and the top {@code k} earners O(k). Local writes are merged into the sorted arrays in one pass
+ * instead of sorting again. Employees without a salary are not indexed.
+ */
+public final class SalaryIndex {
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new int[0], new Employee[0]);
+
+    private final int[] salaries;
+    private final Employee[] employees;
+
+    private SalaryIndex(int[] salaries, Employee[] employees) {
+        this.salaries = salaries;
+        this.employees = employees;
+    }
+
+    static SalaryIndex build(Collection<Employee> roster) {
+        Employee[] sorted = roster.stream()
+                .filter(employee -> employee.getSalary() != null)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .toArray(Employee[]::new);
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+        int[] salaries = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            salaries[i] = sorted[i].getSalary();
+        }
+        return new SalaryIndex(salaries, sorted);
+    }
+
+    SalaryIndex withAdded(Employee employee) {
+        return withChanges(List.of(), List.of(employee));
+    }
+
+    SalaryIndex withRemoved(Employee employee) {
+        return withChanges(List.of(employee), List.of());
+    }
+
+    /**
+     * Applies a batch of local writes in a single merge pass. New employees join the end of the roster, so they go
+     * after existing equal salaries, and among themselves keep the order given.
+     */
+    SalaryIndex withChanges(Collection<Employee> removed, Collection<Employee> added) {
+        Set<Employee> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Employee employee : removed) {
+            if (employee.getSalary() != null) {
+                removedSet.add(employee);
+            }
+        }
+        Employee[] incoming = added.stream()
+                .filter(employee -> employee.getSalary() != null)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .toArray(Employee[]::new);
+        if (removedSet.isEmpty() && incoming.length == 0) {
+            return this;
+        }
+        int[] nextSalaries = new int[salaries.length + incoming.length];
+        Employee[] nextEmployees = new Employee[employees.length + incoming.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < employees.length || j < incoming.length) {
+            if (i < employees.length && (j == incoming.length || salaries[i] >= incoming[j].getSalary())) {
+                if (!removedSet.contains(employees[i])) {
+                    nextSalaries[size] = salaries[i];
+                    nextEmployees[size++] = employees[i];
+                }
+                i++;
+            } else {
+                nextSalaries[size] = incoming[j].getSalary();
+                nextEmployees[size++] = incoming[j++];
+            }
+        }
+        if (size == salaries.length && incoming.length == 0) {
+            return this;
+        }
+        return new SalaryIndex(Arrays.copyOf(nextSalaries, size), Arrays.copyOf(nextEmployees, size));
+    }
+
+    /**
+     * @return the highest indexed salary, or {@code 0} for an empty roster
+     */
+    public int highestSalary() {
+        return salaries.length == 0 ? 0 : salaries[0];
+    }
+
+    /**
+     * @return up to {@code limit} employees ordered by salary, highest first
+     */
+    public List<Employee> topEarners(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        return List.of(Arrays.copyOf(employees, Math.min(limit, employees.length)));
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+}
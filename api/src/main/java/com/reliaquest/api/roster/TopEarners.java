@@ -0,0 +1,69 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the {@code limit} highest earners of a stream of employees in a bounded min-heap, so selecting them takes
+ * O(limit) memory however long the stream is. Ordering matches {@link SalaryIndex#topEarners(int)}: highest salary
+ * first, equal salaries in arrival order. Employees without a salary are ignored.
+ */
+public final class TopEarners implements Consumer<Employee> {
+
+    /** Weakest candidate first: lowest salary, and among equal salaries the latest arrival. */
+    private static final Comparator<Candidate> WEAKEST_FIRST = Comparator.comparingInt(Candidate::salary)
+            .thenComparing(Comparator.comparingLong(Candidate::sequence).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Candidate> heap;
+    private long sequence;
+
+    public TopEarners(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024)), WEAKEST_FIRST);
+    }
+
+    @Override
+    public void accept(Employee employee) {
+        if (employee.getSalary() == null || limit == 0) {
+            return;
+        }
+        Candidate candidate = new Candidate(employee, employee.getSalary(), sequence++);
+        if (heap.size() < limit) {
+            heap.add(candidate);
+        } else if (WEAKEST_FIRST.compare(candidate, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * @return the highest salary seen, or {@code 0} if none was
+     */
+    public int highestSalary() {
+        List<Employee> top = result();
+        return top.isEmpty() ? 0 : top.get(0).getSalary();
+    }
+
+    /**
+     * @return the retained employees ordered by salary, highest first
+     */
+    public List<Employee> result() {
+        List<Candidate> sorted = new ArrayList<>(heap);
+        sorted.sort(WEAKEST_FIRST.reversed());
+        List<Employee> employees = new ArrayList<>(sorted.size());
+        for (Candidate candidate : sorted) {
+            employees.add(candidate.employee());
+        }
+        return employees;
+    }
+
+    private record Candidate(Employee employee, int salary, long sequence) {}
+}
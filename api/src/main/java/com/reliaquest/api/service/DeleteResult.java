@@ -0,0 +1,19 @@
+package com.reliaquest.api.service;
+
+/**
+ * Outcome of a delete that reached a decision: the employee was deleted, or the delete was refused or found nothing.
+ * Failures to get an answer from upstream, 429s included, are thrown instead.
+ *
+ * @param deleted whether upstream deleted the employee
+ * @param message the outcome as the delete endpoint reports it
+ */
+public record DeleteResult(boolean deleted, String message) {
+
+    public static DeleteResult deleted(String id) {
+        return new DeleteResult(true, "Successfully deleted employee with id: " + id);
+    }
+
+    public static DeleteResult refused(String message) {
+        return new DeleteResult(false, message);
+    }
+}
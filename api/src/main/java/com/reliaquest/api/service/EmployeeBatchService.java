@@ -0,0 +1,145 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Runs batches of creates and deletes through {@link EmployeeService} in parallel.
+ *
+ * <p>All batches share one pool of {@code employee.batch.concurrency} workers, so concurrent batches cannot multiply
+ * the load on the upstream. Workers hold off while the {@link UpstreamRateLimiter} is blocked by a 429, and an item
+ * that is throttled anyway (by upstream or by being shed locally) is retried after the block, up to
+ * {@code max-retries} times. A 429 means upstream did not process the call, so this is safe for creates too. Every
+ * item yields a result; one failing item does not fail the batch.
+ */
+@Service
+public class EmployeeBatchService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBatchService.class);
+
+    private static final Duration MIN_RETRY_DELAY = Duration.ofMillis(100);
+
+    private final EmployeeService employeeService;
+    private final UpstreamRateLimiter rateLimiter;
+    private final int maxRetries;
+    private final ExecutorService workers;
+
+    @Autowired
+    public EmployeeBatchService(
+            EmployeeService employeeService,
+            UpstreamRateLimiter rateLimiter,
+            @Value("${employee.batch.concurrency:8}") int concurrency,
+            @Value("${employee.batch.max-retries:3}") int maxRetries,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Batch concurrency must be positive");
+        }
+        this.employeeService = employeeService;
+        this.rateLimiter = rateLimiter;
+        this.maxRetries = maxRetries;
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("employee-batch-", 0).factory()
+                : Thread.ofPlatform().name("employee-batch-", 0).daemon(true).factory();
+        this.workers = Executors.newFixedThreadPool(concurrency, threadFactory);
+    }
+
+    public List<BatchItemResult<Employee>> createEmployees(List<EmployeeInput> inputs) {
+        logger.info("Creating {} employees in batch", inputs.size());
+        return dispatch(inputs, input -> employeeService
+                .createEmployee(input)
+                .orElseThrow(() -> new IllegalStateException("Failed to create employee: Empty response")));
+    }
+
+    public List<BatchItemResult<String>> deleteEmployees(List<String> ids) {
+        logger.info("Deleting {} employees in batch", ids.size());
+        return dispatch(ids, id -> {
+            // Upstream failures are thrown rather than reported, so throttled deletes reach the retry below
+            DeleteResult result = employeeService.deleteEmployee(id);
+            if (!result.deleted()) {
+                throw new IllegalStateException(result.message());
+            }
+            return result.message();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private <I, O> List<BatchItemResult<O>> dispatch(List<I> items, Function<I, O> call) {
+        List<CompletableFuture<BatchItemResult<O>>> pending = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            int index = i;
+            I item = items.get(i);
+            pending.add(CompletableFuture.supplyAsync(() -> attempt(index, item, call), workers));
+        }
+        List<BatchItemResult<O>> results = new ArrayList<>(items.size());
+        for (CompletableFuture<BatchItemResult<O>> result : pending) {
+            results.add(result.join());
+        }
+        return results;
+    }
+
+    private <I, O> BatchItemResult<O> attempt(int index, I item, Function<I, O> call) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                awaitRateLimit(Duration.ZERO);
+                return BatchItemResult.succeeded(index, call.apply(item));
+            } catch (HttpClientErrorException e) {
+                // The 429s raised by the error handler and by local shedding are not the TooManyRequests subtype
+                if (e.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    logger.warn("Batch item {} failed: {}", index, e.getMessage());
+                    return BatchItemResult.failed(index, e.getMessage());
+                }
+                if (attempt >= maxRetries) {
+                    return BatchItemResult.failed(index, e.getMessage());
+                }
+                logger.debug("Batch item {} throttled, retry {}", index, attempt + 1);
+                if (!awaitRateLimit(MIN_RETRY_DELAY)) {
+                    return BatchItemResult.failed(index, "Interrupted while waiting for the upstream rate limit");
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Batch item {} failed: {}", index, e.getMessage());
+                return BatchItemResult.failed(index, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the rate limiter's current block is over, or for {@code atLeast}.
+     *
+     * @return {@code false} if interrupted
+     */
+    private boolean awaitRateLimit(Duration atLeast) {
+        Duration blocked = rateLimiter.blockedFor();
+        Duration wait = blocked.compareTo(atLeast) > 0 ? blocked : atLeast;
+        if (wait.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(wait.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.client.RequestCoalescer;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.model.EmployeeResponse;
-import java.util.Comparator;
+import com.reliaquest.api.query.CountingInputStream;
+import com.reliaquest.api.query.QueryOperation;
+import com.reliaquest.api.query.QueryPlanner;
+import com.reliaquest.api.query.QueryStats;
+import com.reliaquest.api.query.QueryStrategy;
+import com.reliaquest.api.query.UpstreamQueries;
+import com.reliaquest.api.roster.EmployeeStreamReader;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterOverlay;
+import com.reliaquest.api.roster.RosterView;
+import com.reliaquest.api.roster.TopEarners;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -20,17 +37,88 @@ import org.springframework.web.client.RestTemplate;
 @Service
 public class EmployeeService {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
-    private static final int MAX_RETRIES = 3;
+    private static final int TOP_EARNERS_LIMIT = 10;
     private final RestTemplate restTemplate;
     private final String baseUrl;
+    private final RosterCache rosterCache;
+    private final RosterOverlay rosterOverlay;
+    private final RequestCoalescer requestCoalescer;
+    private final QueryPlanner queryPlanner;
+    private final QueryStats queryStats;
 
-    public EmployeeService(RestTemplate restTemplate, @Value("${employee.api.base-url}") String baseUrl) {
+    public EmployeeService(RestTemplate restTemplate, String baseUrl) {
+        this(
+                restTemplate,
+                baseUrl,
+                RosterCache.withDefaults(),
+                RosterOverlay.withDefaults(),
+                new RequestCoalescer(),
+                false);
+    }
+
+    /**
+     * @param streamingReads answer search, highest salary and top earners by folding over a fresh upstream response
+     *     as it is parsed, instead of from the cached roster
+     */
+    public EmployeeService(
+            RestTemplate restTemplate,
+            String baseUrl,
+            RosterCache rosterCache,
+            RosterOverlay rosterOverlay,
+            RequestCoalescer requestCoalescer,
+            boolean streamingReads) {
+        this(
+                restTemplate,
+                baseUrl,
+                rosterCache,
+                rosterOverlay,
+                requestCoalescer,
+                QueryPlanner.withoutPushdown(rosterCache, streamingReads),
+                new QueryStats());
+    }
+
+    /**
+     * @param queryPlanner decides per read whether search, highest salary and top earners are pushed upstream,
+     *     streamed, or answered from the cached roster
+     */
+    @Autowired
+    public EmployeeService(
+            RestTemplate restTemplate,
+            @Value("${employee.api.base-url}") String baseUrl,
+            RosterCache rosterCache,
+            RosterOverlay rosterOverlay,
+            RequestCoalescer requestCoalescer,
+            QueryPlanner queryPlanner,
+            QueryStats queryStats) {
         this.restTemplate = restTemplate;
         this.baseUrl = baseUrl;
+        this.rosterCache = rosterCache;
+        this.rosterOverlay = rosterOverlay;
+        this.requestCoalescer = requestCoalescer;
+        this.queryPlanner = queryPlanner;
+        this.queryStats = queryStats;
     }
 
     public List<Employee> getAllEmployees() {
         logger.info("Fetching all employees");
+        return currentRoster().employees();
+    }
+
+    private RosterView currentRoster() {
+        return rosterOverlay.apply(rosterCache.snapshot(this::fetchAllEmployees));
+    }
+
+    private RosterView currentRoster(QueryOperation operation) {
+        queryStats.record(operation, QueryStrategy.LOCAL, 0, 0);
+        return currentRoster();
+    }
+
+    private List<Employee> fetchAllEmployees() {
+        return requestCoalescer.execute(baseUrl, this::requestAllEmployees);
+    }
+
+    private List<Employee> requestAllEmployees() {
+        logger.debug("Loading employee roster from upstream");
 
         ResponseEntity<EmployeeResponse> response =
                 restTemplate.exchange(baseUrl, HttpMethod.GET, null, EmployeeResponse.class);
@@ -40,6 +128,14 @@ public class EmployeeService {
         logger.debug("getAllEmployees response status code: {}", statusCode);
 
         EmployeeResponse responseBody = response.getBody();
+        int rows = responseBody == null || responseBody.getData() == null
+                ? 0
+                : responseBody.getData().size();
+        queryStats.record(
+                QueryOperation.ROSTER_LOAD,
+                QueryStrategy.FULL_FETCH,
+                rows,
+                response.getHeaders().getContentLength());
         if (responseBody == null || responseBody.getData() == null) {
             logger.warn("No employees found or response body is null");
             return List.of();
@@ -50,12 +146,63 @@ public class EmployeeService {
         return responseBody.getData();
     }
 
+    /**
+     * Passes every upstream employee to {@code consumer} while the response is still being read. Reads go straight to
+     * upstream, so they bypass the roster cache and need no overlay.
+     */
+    private void streamAllEmployees(QueryOperation operation, Consumer<Employee> consumer) {
+        logger.debug("Streaming employee roster from upstream");
+        Integer count = restTemplate.execute(
+                baseUrl,
+                HttpMethod.GET,
+                restTemplate.acceptHeaderRequestCallback(EmployeeResponse.class),
+                response -> readCounted(response.getBody(), operation, QueryStrategy.STREAMED, consumer));
+        logger.debug("Streamed {} employees", count);
+    }
+
+    /**
+     * Runs a list query with its filter, sort and limit applied by upstream. Identical concurrent queries share one
+     * request.
+     */
+    private List<Employee> queryUpstream(QueryOperation operation, URI query) {
+        return requestCoalescer.execute(query.toString(), () -> {
+            logger.debug("Pushing {} down to upstream: {}", operation.tag(), query);
+            List<Employee> rows = new ArrayList<>();
+            restTemplate.execute(
+                    query,
+                    HttpMethod.GET,
+                    restTemplate.acceptHeaderRequestCallback(EmployeeResponse.class),
+                    response -> readCounted(response.getBody(), operation, QueryStrategy.PUSHDOWN, rows::add));
+            return rows;
+        });
+    }
+
+    private int readCounted(
+            InputStream body, QueryOperation operation, QueryStrategy strategy, Consumer<Employee> consumer)
+            throws IOException {
+        CountingInputStream counted = new CountingInputStream(body);
+        int rows = EmployeeStreamReader.read(counted, consumer);
+        queryStats.record(operation, strategy, rows, counted.count());
+        return rows;
+    }
+
     public List<Employee> searchEmployeesByName(String searchString) {
         logger.info("Searching employees with name containing: {}", searchString);
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .filter(emp -> emp.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        QueryStrategy strategy = queryPlanner.plan();
+        if (strategy == QueryStrategy.PUSHDOWN) {
+            return queryUpstream(QueryOperation.SEARCH, UpstreamQueries.nameContains(baseUrl, searchString));
+        }
+        if (strategy == QueryStrategy.STREAMED) {
+            String needle = searchString.toLowerCase();
+            List<Employee> matches = new ArrayList<>();
+            streamAllEmployees(QueryOperation.SEARCH, employee -> {
+                if (employee.getName() != null && employee.getName().toLowerCase().contains(needle)) {
+                    matches.add(employee);
+                }
+            });
+            return matches;
+        }
+        return currentRoster(QueryOperation.SEARCH).nameIndex().search(searchString);
     }
 
     public Optional<Employee> getEmployeeById(String id) {
@@ -66,8 +213,9 @@ public class EmployeeService {
 
         logger.info("Fetching employee with id: {}", id);
 
-        ResponseEntity<EmployeeResponse> response =
-                restTemplate.exchange(baseUrl + "/" + id, HttpMethod.GET, null, EmployeeResponse.class);
+        String url = baseUrl + "/" + id;
+        ResponseEntity<EmployeeResponse> response = requestCoalescer.execute(
+                url, () -> restTemplate.exchange(url, HttpMethod.GET, null, EmployeeResponse.class));
 
         // Capture the HTTP status code
         HttpStatusCode statusCode = response.getStatusCode();
@@ -85,17 +233,49 @@ public class EmployeeService {
 
     public Integer getHighestSalary() {
         logger.info("Calculating highest salary");
-        return getAllEmployees().stream()
-                .map(Employee::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        QueryStrategy strategy = queryPlanner.plan();
+        if (strategy == QueryStrategy.PUSHDOWN) {
+            TopEarners highest = new TopEarners(1);
+            queryUpstream(QueryOperation.HIGHEST_SALARY, UpstreamQueries.topBySalary(baseUrl, 1, "salary"))
+                    .forEach(highest);
+            return highest.highestSalary();
+        }
+        if (strategy == QueryStrategy.STREAMED) {
+            TopEarners highest = new TopEarners(1);
+            streamAllEmployees(QueryOperation.HIGHEST_SALARY, highest);
+            return highest.highestSalary();
+        }
+        return currentRoster(QueryOperation.HIGHEST_SALARY).salaryIndex().highestSalary();
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Fetching top 10 highest earning employee names");
-        return getAllEmployees().stream()
-                .sorted(Comparator.comparing(Employee::getSalary).reversed())
-                .limit(10)
+        return getTopHighestEarningEmployeeNames(TOP_EARNERS_LIMIT);
+    }
+
+    /**
+     * Returns the names of the {@code limit} highest earning employees, highest salary first. Served from the salary
+     * index of the current roster, so any limit is answered without sorting, or in streaming mode from a bounded heap
+     * filled while the upstream response is read. Pushed down, upstream returns just the {@code limit} rows; it orders
+     * equal salaries by id rather than by roster order.
+     */
+    public List<String> getTopHighestEarningEmployeeNames(int limit) {
+        logger.info("Fetching top {} highest earning employee names", limit);
+        List<Employee> topEarners;
+        QueryStrategy strategy = queryPlanner.plan();
+        if (strategy == QueryStrategy.PUSHDOWN && limit > 0) {
+            // Upstream sorts employees without a salary last; the heap drops them as the other paths do
+            TopEarners selection = new TopEarners(limit);
+            queryUpstream(QueryOperation.TOP_EARNERS, UpstreamQueries.topBySalary(baseUrl, limit, "name", "salary"))
+                    .forEach(selection);
+            topEarners = selection.result();
+        } else if (strategy == QueryStrategy.STREAMED) {
+            TopEarners selection = new TopEarners(limit);
+            streamAllEmployees(QueryOperation.TOP_EARNERS, selection);
+            topEarners = selection.result();
+        } else {
+            topEarners = currentRoster(QueryOperation.TOP_EARNERS).salaryIndex().topEarners(limit);
+        }
+        return topEarners.stream()
                 .map(Employee::getName)
                 .collect(Collectors.toList());
     }
@@ -110,59 +290,107 @@ public class EmployeeService {
         if (body == null || body.getData() == null || body.getData().isEmpty()) {
             throw new RuntimeException("Failed to create employee: Empty response");
         }
-        return Optional.of(body.getData().get(0));
+        Employee created = body.getData().get(0);
+        rosterOverlay.recordCreated(created);
+        return Optional.of(created);
     }
 
     public String deleteEmployeeById(String id) {
+        DeleteTarget target = resolveDeleteTarget(id);
+        if (target.refusal() != null) {
+            return target.refusal().message();
+        }
+        try {
+            return deleteByName(id, target.employee().getName()).message();
+        } catch (Exception e) {
+            logger.error("Error deleting employee with id {}: {}", id, e.getMessage());
+            return "Error deleting employee with id: " + id + ". Error: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Deletes as {@link #deleteEmployeeById(String)} does, but reports the outcome as a {@link DeleteResult} and
+     * rethrows upstream failures, 429s included, so callers can retry them.
+     */
+    public DeleteResult deleteEmployee(String id) {
+        DeleteTarget target = resolveDeleteTarget(id);
+        if (target.refusal() != null) {
+            return target.refusal();
+        }
+        return deleteByName(id, target.employee().getName());
+    }
+
+    private DeleteTarget resolveDeleteTarget(String id) {
         if (id == null || id.isEmpty()) {
             logger.warn("Employee ID was null or empty");
-            return "Employee ID cannot be null or empty";
+            return DeleteTarget.refused("Employee ID cannot be null or empty");
         }
 
         logger.info("Deleting employee with id: {}", id);
 
-        // First get the employee by ID
-        List<Employee> employees = getAllEmployees();
-        if (employees.isEmpty()) {
-            return "No employees found to delete.";
+        // Resolve the target directly instead of scanning the whole roster
+        Employee targetEmployee;
+        try {
+            targetEmployee = getEmployeeById(id).orElse(null);
+        } catch (HttpClientErrorException.NotFound e) {
+            targetEmployee = null;
         }
-        Employee targetEmployee = employees.stream()
-                .filter(emp -> emp.getId().equals(id))
-                .findFirst()
-                .orElse(null);
         if (targetEmployee == null) {
-            return "Employee not found with id: " + id;
+            return DeleteTarget.refused("Employee not found with id: " + id);
         }
 
-        // Check if there are multiple employees with the same name
-        List<Employee> employeesWithSameName = employees.stream()
-                .filter(emp -> !emp.getId().equals(id) && emp.getName().equals(targetEmployee.getName()))
-                .toList();
+        // Upstream deletes by name, so refuse when the name is ambiguous
+        int sameName = countOthersNamed(id, targetEmployee.getName());
+        if (sameName > 0) {
+            return DeleteTarget.refused("Cannot delete employee with id: " + id + ". Found "
+                    + sameName + " other employee(s) with the same name: "
+                    + targetEmployee.getName());
+        }
+        return new DeleteTarget(targetEmployee, null);
+    }
 
-        if (!employeesWithSameName.isEmpty()) {
-            return "Cannot delete employee with id: " + id + ". Found "
-                    + employeesWithSameName.size() + " other employee(s) with the same name: "
-                    + targetEmployee.getName();
+    /**
+     * Counts the employees other than {@code id} named exactly {@code name}. A fresh cached roster answers from its
+     * name counts; without one, a pushed-down name query fetches just the candidates, so a delete on a cold cache does
+     * not load the whole roster. Only when upstream cannot filter is the roster loaded in full.
+     */
+    private int countOthersNamed(String id, String name) {
+        if (name != null && !rosterCache.hasFreshSnapshot() && queryPlanner.plan() == QueryStrategy.PUSHDOWN) {
+            // Upstream matches substrings case-insensitively; keep exact matches only
+            return (int) queryUpstream(QueryOperation.DELETE_CHECK, UpstreamQueries.nameContains(baseUrl, name))
+                    .stream()
+                    .filter(employee -> name.equals(employee.getName()) && !id.equals(employee.getId()))
+                    .count();
         }
+        RosterView roster = currentRoster();
+        return roster.countByName(name) - (roster.contains(id) ? 1 : 0);
+    }
 
+    private DeleteResult deleteByName(String id, String name) {
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("name", name);
+
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody);
+        ResponseEntity<Map> response;
         try {
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("name", targetEmployee.getName());
-
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody);
-            ResponseEntity<Map> response =
-                    restTemplate.exchange(baseUrl, HttpMethod.DELETE, request, Map.class);
-
-            if (response.getBody() != null && !response.getBody().isEmpty()) {
-                return "Successfully deleted employee with id: " + id;
-            } else {
-                return "Failed to delete employee with id: " + id;
-            }
+            response = restTemplate.exchange(baseUrl, HttpMethod.DELETE, request, Map.class);
         } catch (HttpClientErrorException.NotFound e) {
-            return "Employee not found with id: " + id;
-        } catch (Exception e) {
-            logger.error("Error deleting employee with id {}: {}", id, e.getMessage());
-            return "Error deleting employee with id: " + id + ". Error: " + e.getMessage();
+            return DeleteResult.refused("Employee not found with id: " + id);
+        }
+
+        if (response.getBody() != null && !response.getBody().isEmpty()) {
+            rosterOverlay.recordDeleted(id);
+            return DeleteResult.deleted(id);
+        }
+        return DeleteResult.refused("Failed to delete employee with id: " + id);
+    }
+
+    /**
+     * The employee a delete resolved to, or the reason it was refused before calling upstream.
+     */
+    private record DeleteTarget(Employee employee, DeleteResult refusal) {
+        static DeleteTarget refused(String message) {
+            return new DeleteTarget(null, DeleteResult.refused(message));
         }
     }
 }
@@ -0,0 +1,216 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterOverlay;
+import com.reliaquest.api.roster.RosterView;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService} over {@link WebClient}, used when
+ * {@code employee.controller.mode=reactive}. No thread is held while an upstream call is in flight.
+ *
+ * <p>The roster is held by the same {@link RosterCache} as in blocking mode, with its refresh-ahead, single in-flight
+ * load and serving of a stale snapshot while upstream fails. Reading it may wait for a load, and merging the
+ * {@link RosterOverlay} builds the salary and name indexes of each new snapshot, so roster reads run on the
+ * bounded elastic scheduler rather than on the event loop; lookups, creates and deletes stay non-blocking. Local
+ * writes go through the same overlay and the same indexes as the blocking service, and are recorded on the same
+ * scheduler since they share the overlay lock with those reads. Upstream 4xx and 5xx responses fail with the
+ * {@code HttpClientErrorException} or {@code HttpServerErrorException} the blocking client would raise, so error
+ * responses are unchanged.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.controller.mode", havingValue = "reactive")
+public class ReactiveEmployeeService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+    private static final int TOP_EARNERS_LIMIT = 10;
+
+    private final WebClient webClient;
+    private final RosterCache rosterCache;
+    private final RosterOverlay rosterOverlay;
+
+    public ReactiveEmployeeService(
+            WebClient employeeApiWebClient, RosterCache rosterCache, RosterOverlay rosterOverlay) {
+        this.webClient = employeeApiWebClient;
+        this.rosterCache = rosterCache;
+        this.rosterOverlay = rosterOverlay;
+    }
+
+    public Mono<List<Employee>> getAllEmployees() {
+        logger.info("Fetching all employees");
+        return currentRoster().map(RosterView::employees);
+    }
+
+    public Mono<List<Employee>> searchEmployeesByName(String searchString) {
+        logger.info("Searching employees with name containing: {}", searchString);
+        return currentRoster().map(view -> view.nameIndex().search(searchString));
+    }
+
+    public Mono<Employee> getEmployeeById(String id) {
+        if (id == null || id.isEmpty()) {
+            logger.warn("Employee ID was null or empty");
+            return Mono.empty();
+        }
+
+        logger.info("Fetching employee with id: {}", id);
+        return webClient
+                .get()
+                .uri("/{id}", id)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().then(Mono.<EmployeeResponse>empty());
+                    }
+                    return readBody(response);
+                })
+                .flatMap(body -> firstEmployee(body).map(Mono::just).orElseGet(() -> {
+                    logger.warn("No employees found or response body is null");
+                    return Mono.empty();
+                }));
+    }
+
+    public Mono<Integer> getHighestSalary() {
+        logger.info("Calculating highest salary");
+        return currentRoster().map(view -> view.salaryIndex().highestSalary());
+    }
+
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        logger.info("Fetching top {} highest earning employee names", TOP_EARNERS_LIMIT);
+        return currentRoster().map(view -> view.salaryIndex().topEarners(TOP_EARNERS_LIMIT).stream()
+                .map(Employee::getName)
+                .toList());
+    }
+
+    public Mono<Employee> createEmployee(EmployeeInput input) {
+        logger.info("Creating new employee");
+        return webClient
+                .post()
+                .bodyValue(input)
+                .exchangeToMono(this::readBody)
+                .flatMap(body -> firstEmployee(body)
+                        .map(Mono::just)
+                        .orElseGet(() -> Mono.error(new RuntimeException("Failed to create employee: Empty response"))))
+                .flatMap(created -> recordWrite(() -> rosterOverlay.recordCreated(created)).thenReturn(created));
+    }
+
+    public Mono<String> deleteEmployeeById(String id) {
+        if (id == null || id.isEmpty()) {
+            logger.warn("Employee ID was null or empty");
+            return Mono.just("Employee ID cannot be null or empty");
+        }
+
+        logger.info("Deleting employee with id: {}", id);
+        return getEmployeeById(id)
+                .flatMap(target -> currentRoster().flatMap(roster -> {
+                    // Upstream deletes by name, so refuse when the name is ambiguous
+                    int sameName = roster.countByName(target.getName()) - (roster.contains(id) ? 1 : 0);
+                    if (sameName > 0) {
+                        return Mono.just("Cannot delete employee with id: " + id + ". Found " + sameName
+                                + " other employee(s) with the same name: " + target.getName());
+                    }
+                    return deleteByName(id, target.getName());
+                }))
+                .defaultIfEmpty("Employee not found with id: " + id);
+    }
+
+    private Mono<String> deleteByName(String id, String name) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .bodyValue(Map.of("name", name))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().thenReturn("Employee not found with id: " + id);
+                    }
+                    if (response.statusCode().isError()) {
+                        return toException(response).flatMap(Mono::error);
+                    }
+                    return response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                            .flatMap(body -> recordWrite(() -> rosterOverlay.recordDeleted(id))
+                                    .thenReturn("Successfully deleted employee with id: " + id))
+                            .defaultIfEmpty("Failed to delete employee with id: " + id);
+                })
+                .onErrorResume(e -> {
+                    logger.error("Error deleting employee with id {}: {}", id, e.getMessage());
+                    return Mono.just("Error deleting employee with id: " + id + ". Error: " + e.getMessage());
+                });
+    }
+
+    private Mono<RosterView> currentRoster() {
+        return Mono.fromCallable(() -> rosterOverlay.apply(rosterCache.snapshot(this::fetchAllEmployees)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Records a confirmed write in the overlay on the bounded elastic scheduler. The overlay takes a lock that roster
+     * reads hold while merging a snapshot, which must not stall the event loop the upstream response arrived on.
+     */
+    private Mono<Void> recordWrite(Runnable write) {
+        return Mono.fromRunnable(write).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    /**
+     * Loads the roster for the {@link RosterCache}, which calls this on a bounded elastic or refresh thread.
+     */
+    private List<Employee> fetchAllEmployees() {
+        logger.debug("Loading employee roster from upstream");
+        return webClient
+                .get()
+                .exchangeToMono(this::readBody)
+                .map(body -> body.getData() == null ? List.<Employee>of() : body.getData())
+                .defaultIfEmpty(List.of())
+                .block();
+    }
+
+    private Mono<EmployeeResponse> readBody(ClientResponse response) {
+        if (response.statusCode().isError()) {
+            return toException(response).flatMap(Mono::error);
+        }
+        return response.bodyToMono(EmployeeResponse.class)
+                .doOnNext(body -> body.setStatusCode(response.statusCode().toString()));
+    }
+
+    private static Optional<Employee> firstEmployee(EmployeeResponse body) {
+        if (body == null || body.getData() == null || body.getData().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(body.getData().get(0));
+    }
+
+    private static Mono<RuntimeException> toException(ClientResponse response) {
+        HttpStatus status = HttpStatus.resolve(response.statusCode().value());
+        String statusText = status != null ? status.getReasonPhrase() : "";
+        return response.bodyToMono(byte[].class).defaultIfEmpty(new byte[0]).map(body -> {
+            if (response.statusCode().is4xxClientError()) {
+                return HttpClientErrorException.create(
+                        response.statusCode(),
+                        statusText,
+                        response.headers().asHttpHeaders(),
+                        body,
+                        StandardCharsets.UTF_8);
+            }
+            return HttpServerErrorException.create(
+                    response.statusCode(),
+                    statusText,
+                    response.headers().asHttpHeaders(),
+                    body,
+                    StandardCharsets.UTF_8);
+        });
+    }
+}
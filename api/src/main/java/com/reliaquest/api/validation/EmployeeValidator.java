@@ -1,6 +1,8 @@
 package com.reliaquest.api.validation;
 
 import com.reliaquest.api.model.EmployeeInput;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for employee-related validation
@@ -46,4 +48,57 @@ public class EmployeeValidator {
             throw new IllegalArgumentException("Employee ID cannot be blank");
         }
     }
+
+    /**
+     * Validates every input of a batch in one pass, so a client sees all rejected items at once
+     * @param inputs The batch to validate
+     * @param maxSize The largest accepted batch
+     * @throws IllegalArgumentException listing each invalid item by index if validation fails
+     */
+    public static void validateEmployeeInputs(List<EmployeeInput> inputs, int maxSize) {
+        validateBatchSize(inputs, maxSize);
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            try {
+                validateEmployeeInput(inputs.get(i));
+            } catch (IllegalArgumentException e) {
+                errors.add("[" + i + "] " + e.getMessage());
+            }
+        }
+        failIfAny(errors);
+    }
+
+    /**
+     * Validates every employee ID of a batch in one pass
+     * @param ids The batch to validate
+     * @param maxSize The largest accepted batch
+     * @throws IllegalArgumentException listing each invalid item by index if validation fails
+     */
+    public static void validateEmployeeIds(List<String> ids, int maxSize) {
+        validateBatchSize(ids, maxSize);
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            try {
+                validateEmployeeId(ids.get(i));
+            } catch (IllegalArgumentException e) {
+                errors.add("[" + i + "] " + e.getMessage());
+            }
+        }
+        failIfAny(errors);
+    }
+
+    private static void validateBatchSize(List<?> batch, int maxSize) {
+        if (batch == null || batch.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        if (batch.size() > maxSize) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + maxSize + " items");
+        }
+    }
+
+    private static void failIfAny(List<String> errors) {
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid batch items: " + String.join("; ", errors));
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitingInterceptorTest {
+
+    private static final URI EMPLOYEES = URI.create("http://localhost:8112/api/v1/employee");
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    @Test
+    void intercept_GetThrottledThenAdmitted_Retries() throws Exception {
+        // Arrange
+        RateLimitingInterceptor interceptor = interceptor(new UpstreamRateLimiter(10, 10, Duration.ZERO), 3);
+        when(execution.execute(any(), any())).thenReturn(throttled("0"), throttled("0"), ok());
+
+        // Act
+        ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(execution, times(3)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_GetThrottledPastMaxRetries_ReturnsThrottledResponse() throws Exception {
+        // Arrange
+        RateLimitingInterceptor interceptor = interceptor(new UpstreamRateLimiter(10, 10, Duration.ZERO), 2);
+        when(execution.execute(any(), any())).thenReturn(throttled("0"));
+
+        // Act
+        ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        verify(execution, times(3)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_PostThrottled_IsNotRetried() throws Exception {
+        // Arrange
+        RateLimitingInterceptor interceptor = interceptor(new UpstreamRateLimiter(10, 10, Duration.ZERO), 3);
+        when(execution.execute(any(), any())).thenReturn(throttled("0"));
+
+        // Act
+        ClientHttpResponse response = interceptor.intercept(request(HttpMethod.POST), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        verify(execution, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_RetryAfterBeyondMaxWait_ShedsNextCall() throws Exception {
+        // Arrange
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(10, 10, Duration.ZERO);
+        RateLimitingInterceptor interceptor = interceptor(limiter, 3);
+        when(execution.execute(any(), any())).thenReturn(throttled("60"));
+
+        // Act
+        ClientHttpResponse first = interceptor.intercept(request(HttpMethod.GET), new byte[0], execution);
+        HttpClientErrorException shed = assertThrows(
+                HttpClientErrorException.class,
+                () -> interceptor.intercept(request(HttpMethod.GET), new byte[0], execution));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, first.getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, shed.getStatusCode());
+        assertNotNull(shed.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        verify(execution, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void retryAfter_SecondsOrHttpDate_IsParsed() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(
+                new UpstreamRateLimiter(10, 10, Duration.ZERO), true, 3, Duration.ofSeconds(5), Duration.ZERO, clock);
+
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(42), interceptor.retryAfter(headers("42")));
+        assertEquals(Duration.ofSeconds(90), interceptor.retryAfter(headers("Mon, 01 Jan 2024 00:01:30 GMT")));
+        assertNull(interceptor.retryAfter(headers("soon")));
+        assertNull(interceptor.retryAfter(new HttpHeaders()));
+    }
+
+    private static RateLimitingInterceptor interceptor(UpstreamRateLimiter limiter, int maxRetries) {
+        return new RateLimitingInterceptor(limiter, true, maxRetries, Duration.ofSeconds(5), Duration.ofMillis(1));
+    }
+
+    private static MockClientHttpRequest request(HttpMethod method) {
+        return new MockClientHttpRequest(method, EMPLOYEES);
+    }
+
+    private static ClientHttpResponse throttled(String retryAfter) {
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return response;
+    }
+
+    private static ClientHttpResponse ok() {
+        return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
+    private static HttpHeaders headers(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return headers;
+    }
+}
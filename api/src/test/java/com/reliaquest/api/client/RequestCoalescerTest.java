@@ -0,0 +1,130 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescerTest {
+
+    private static final int CALLERS = 50;
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ConcurrentIdenticalRequests_IssuesOne() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute("GET /employee", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "roster";
+            })));
+        }
+        waitUntil(() -> coalescer.issuedCount() + coalescer.coalescedCount() == CALLERS);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("roster", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.issuedCount());
+        assertEquals(CALLERS - 1, coalescer.coalescedCount());
+    }
+
+    @Test
+    void execute_LeaderFails_EveryCallerSeesFailure() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> coalescer.<String>execute("GET /employee/1", () -> {
+                await(release);
+                throw new IllegalStateException("upstream down");
+            })));
+        }
+        waitUntil(() -> coalescer.issuedCount() + coalescer.coalescedCount() == 5);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            Exception failure = assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+    }
+
+    @Test
+    void execute_SequentialOrDifferentKeys_AreNotCoalesced() {
+        // Act
+        coalescer.execute("GET /employee/1", () -> "a");
+        coalescer.execute("GET /employee/1", () -> "a");
+        coalescer.execute("GET /employee/2", () -> "b");
+
+        // Assert
+        assertEquals(3, coalescer.issuedCount());
+        assertEquals(0, coalescer.coalescedCount());
+    }
+
+    @Test
+    void bindTo_PublishesCountersByOutcome() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+
+        // Act
+        coalescer.execute("GET /employee", () -> "roster");
+
+        // Assert
+        assertEquals(
+                1.0,
+                registry.get("employee.upstream.requests")
+                        .tag("outcome", "issued")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                0.0,
+                registry.get("employee.upstream.requests")
+                        .tag("outcome", "coalesced")
+                        .functionCounter()
+                        .count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.CustomRestTemplateErrorHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+public class UpstreamMetricsTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    private SimpleMeterRegistry registry;
+    private UpstreamMetrics upstreamMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        upstreamMetrics = new UpstreamMetrics(BASE_URL);
+        upstreamMetrics.bindTo(registry);
+    }
+
+    @Test
+    void intercept_ResponseClosed_TimesCallAndMeasuresBodies() throws Exception {
+        // Arrange
+        byte[] requestBody = "{\"name\":\"Ann\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] responseBody = "{\"data\":{\"id\":\"1\"}}".getBytes(StandardCharsets.UTF_8);
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(responseBody, HttpStatus.OK));
+
+        // Act
+        ClientHttpResponse response =
+                upstreamMetrics.intercept(request(HttpMethod.POST, BASE_URL), requestBody, execution);
+        StreamUtils.drain(response.getBody());
+        response.close();
+
+        // Assert
+        assertEquals(
+                1,
+                registry.get("employee.upstream.calls")
+                        .tag("operation", "create")
+                        .tag("outcome", "success")
+                        .timer()
+                        .count());
+        assertEquals(
+                requestBody.length,
+                registry.get("employee.upstream.payload")
+                        .tag("direction", "request")
+                        .summary()
+                        .totalAmount());
+        assertEquals(
+                responseBody.length,
+                registry.get("employee.upstream.payload")
+                        .tag("operation", "create")
+                        .tag("direction", "response")
+                        .summary()
+                        .totalAmount());
+    }
+
+    @Test
+    void intercept_UpstreamUnreachable_RecordsIoError() throws Exception {
+        // Arrange
+        when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+
+        // Act / Assert
+        assertThrows(
+                IOException.class,
+                () -> upstreamMetrics.intercept(request(HttpMethod.GET, BASE_URL + "/1"), new byte[0], execution));
+        assertEquals(
+                1,
+                registry.get("employee.upstream.calls")
+                        .tag("operation", "get-by-id")
+                        .tag("outcome", "io-error")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void operation_ClassifiesByMethodAndPath() {
+        // Act / Assert
+        assertEquals(UpstreamOperation.GET_ALL, upstreamMetrics.operation(HttpMethod.GET, URI.create(BASE_URL)));
+        assertEquals(
+                UpstreamOperation.QUERY,
+                upstreamMetrics.operation(HttpMethod.GET, URI.create(BASE_URL + "?sort=salary_desc&limit=1")));
+        assertEquals(
+                UpstreamOperation.GET_BY_ID, upstreamMetrics.operation(HttpMethod.GET, URI.create(BASE_URL + "/42")));
+        assertEquals(UpstreamOperation.CREATE, upstreamMetrics.operation(HttpMethod.POST, URI.create(BASE_URL)));
+        assertEquals(UpstreamOperation.DELETE, upstreamMetrics.operation(HttpMethod.DELETE, URI.create(BASE_URL)));
+    }
+
+    @Test
+    void handleError_Throttled_CountsPerOperation() {
+        // Arrange
+        CustomRestTemplateErrorHandler errorHandler = new CustomRestTemplateErrorHandler(upstreamMetrics);
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+
+        // Act
+        HttpClientErrorException e = assertThrows(
+                HttpClientErrorException.class,
+                () -> errorHandler.handleError(URI.create(BASE_URL), HttpMethod.GET, response));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), e.getStatusCode().value());
+        assertEquals(1, upstreamMetrics.throttledCount(UpstreamOperation.GET_ALL));
+        assertEquals(
+                1.0,
+                registry.get("employee.upstream.throttled")
+                        .tag("operation", "get-all")
+                        .functionCounter()
+                        .count());
+    }
+
+    private static MockClientHttpRequest request(HttpMethod method, String uri) {
+        return new MockClientHttpRequest(method, URI.create(uri));
+    }
+}
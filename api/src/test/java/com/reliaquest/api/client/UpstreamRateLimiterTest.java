@@ -0,0 +1,110 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+public class UpstreamRateLimiterTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    void reserve_WithinCapacity_DoesNotWait() {
+        // Arrange
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(3, 1, Duration.ofSeconds(1), clock);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.reserve(Duration.ZERO));
+        }
+        assertNull(limiter.reserve(Duration.ZERO));
+        assertEquals(Duration.ofSeconds(1), limiter.reserve(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void onThrottled_RetryAfter_BlocksAndLearnsCapacity() {
+        // Arrange
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(100, 100, Duration.ofSeconds(1), clock);
+        for (int i = 0; i < 7; i++) {
+            limiter.reserve(Duration.ZERO);
+            limiter.onAdmitted();
+        }
+
+        // Act
+        Duration blocked = limiter.onThrottled(Duration.ofSeconds(30));
+
+        // Assert
+        assertEquals(Duration.ofSeconds(30), blocked);
+        assertEquals(7, limiter.capacity());
+        assertNull(limiter.reserve(Duration.ofSeconds(5)));
+        assertEquals(Duration.ofSeconds(30), limiter.reserve(Duration.ofMinutes(1)));
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(Duration.ZERO, limiter.blockedFor());
+        for (int i = 1; i < 7; i++) {
+            assertEquals(Duration.ZERO, limiter.reserve(Duration.ZERO));
+        }
+        assertNull(limiter.reserve(Duration.ZERO));
+    }
+
+    @Test
+    void onThrottled_NoRetryAfter_BacksOffExponentially() {
+        // Arrange
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(10, 10, Duration.ofSeconds(1), clock);
+
+        // Act
+        Duration first = limiter.onThrottled(null);
+        clock.advance(first);
+        Duration second = limiter.onThrottled(null);
+        clock.advance(second);
+        Duration third = limiter.onThrottled(null);
+
+        // Assert
+        assertEquals(Duration.ofSeconds(1), first);
+        assertEquals(Duration.ofSeconds(2), second);
+        assertEquals(Duration.ofSeconds(4), third);
+    }
+
+    @Test
+    void onThrottled_HugeRetryAfter_IsCapped() {
+        // Arrange
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(10, 10, Duration.ofSeconds(1), clock);
+
+        // Act
+        Duration blocked = limiter.onThrottled(Duration.ofHours(1));
+
+        // Assert
+        assertEquals(UpstreamRateLimiter.MAX_BLOCK, blocked);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
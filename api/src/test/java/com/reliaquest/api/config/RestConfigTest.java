@@ -0,0 +1,77 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.RateLimitingInterceptor;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+public class RestConfigTest {
+
+    private final RestConfig restConfig = new RestConfig();
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        connectionManager = restConfig.employeeApiConnectionManager(
+                20, 5, Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofMinutes(1));
+        httpClient = restConfig.employeeApiHttpClient(
+                connectionManager, Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+    }
+
+    @Test
+    void restTemplate_UsesRateLimitingInterceptorAndCustomErrorHandler() {
+        // Arrange
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(
+                new UpstreamRateLimiter(10, 10, Duration.ofSeconds(1)),
+                true,
+                3,
+                Duration.ofSeconds(5),
+                Duration.ofMillis(200));
+        UpstreamMetrics upstreamMetrics = new UpstreamMetrics("http://localhost:8112/api/v1/employee");
+
+        // Act
+        RestTemplate restTemplate = restConfig.restTemplate(httpClient, interceptor, upstreamMetrics);
+
+        // Assert
+        assertEquals(List.of(interceptor, upstreamMetrics), restTemplate.getInterceptors());
+        assertInstanceOf(CustomRestTemplateErrorHandler.class, restTemplate.getErrorHandler());
+        assertEquals(20, connectionManager.getMaxTotal());
+        assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void employeeApiConnectionPoolMetrics_ExportsPoolGauges() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        restConfig.employeeApiConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+        // Assert
+        assertEquals(
+                20.0,
+                registry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+        assertEquals(
+                0.0,
+                registry.get("httpcomponents.httpclient.pool.total.connections")
+                        .tag("state", "leased")
+                        .gauge()
+                        .value());
+    }
+}
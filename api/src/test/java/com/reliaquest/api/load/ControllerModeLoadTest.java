@@ -0,0 +1,105 @@
+package com.reliaquest.api.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.ApiApplication;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the blocking and reactive controller modes under the same burst of concurrent lookups against an upstream
+ * that answers after a fixed delay. Reports peak JVM thread count and p99 latency for each mode.
+ *
+ * <p>Excluded from {@code test}; run with {@code ./gradlew :api:loadTest}.
+ */
+@Tag("load")
+public class ControllerModeLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(50);
+    // Upstream and client threads are started up front so they do not count towards either mode's peak
+    private static final int FIXED_POOL_THREADS = 512;
+
+    private static ExecutorService upstreamExecutor;
+    private static ExecutorService clientExecutor;
+    private static EmployeeUpstreamStub upstream;
+    private static LoadDriver driver;
+
+    @BeforeAll
+    static void startUpstream() throws Exception {
+        upstreamExecutor = prestartedPool();
+        upstream = EmployeeUpstreamStub.start(UPSTREAM_DELAY, CONCURRENT_REQUESTS, upstreamExecutor);
+
+        clientExecutor = prestartedPool();
+        driver = new LoadDriver(HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+        upstreamExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void reactiveMode_SameLoad_UsesFewerThreadsThanBlocking() {
+        // Arrange / Act
+        LoadDriver.Result blocking = run("blocking");
+        LoadDriver.Result reactive = run("reactive");
+
+        // Assert
+        blocking.print("blocking");
+        reactive.print("reactive");
+        assertEquals(0, blocking.errors);
+        assertEquals(0, reactive.errors);
+        assertTrue(
+                reactive.peakThreads < blocking.peakThreads,
+                "reactive peak " + reactive.peakThreads + " vs blocking peak " + blocking.peakThreads);
+    }
+
+    private LoadDriver.Result run(String mode) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "employee.controller.mode=" + mode,
+                        "employee.api.base-url=" + upstream.baseUrl(),
+                        "employee.rate-limit.enabled=false",
+                        "employee.http.max-connections-per-route=200",
+                        "logging.level.com.reliaquest=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            driver.burst(port, WARMUP_REQUESTS, "warmup");
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            int baseline = threads.getThreadCount();
+            threads.resetPeakThreadCount();
+            LoadDriver.Result result = driver.burst(port, CONCURRENT_REQUESTS, mode);
+            result.peakThreads = threads.getPeakThreadCount() - baseline;
+            return result;
+        }
+    }
+
+    private static ExecutorService prestartedPool() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                FIXED_POOL_THREADS, FIXED_POOL_THREADS, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        pool.prestartAllCoreThreads();
+        return pool;
+    }
+}
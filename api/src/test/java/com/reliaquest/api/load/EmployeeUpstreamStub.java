@@ -0,0 +1,57 @@
+package com.reliaquest.api.load;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Stand-in for the mock employee server that answers {@code GET /api/v1/employee/{id}} in the mock server's response
+ * shape after a fixed delay, without the mock server's random request limit.
+ */
+final class EmployeeUpstreamStub implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private EmployeeUpstreamStub(HttpServer server) {
+        this.server = server;
+    }
+
+    static EmployeeUpstreamStub start(Duration delay, int backlog, ExecutorService executor) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), backlog);
+        server.createContext("/api/v1/employee", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            byte[] body = ("{\"data\":{\"id\":\"" + id + "\",\"employee_name\":\"Load Test\","
+                            + "\"employee_salary\":50000,\"employee_age\":30,\"employee_title\":\"Engineer\","
+                            + "\"employee_email\":\"load@company.com\"},"
+                            + "\"status\":\"Successfully processed request.\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+        return new EmployeeUpstreamStub(server);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/employee";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fires a burst of concurrent employee lookups at a running api instance and summarizes the latencies.
+ */
+final class LoadDriver {
+
+    private final HttpClient client;
+
+    LoadDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Sends {@code requests} lookups at once, each for a distinct id so the api cannot coalesce them.
+     */
+    Result burst(int port, int requests, String prefix) {
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[requests];
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(requests);
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int slot = i;
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://127.0.0.1:" + port + "/api/v1/employee/" + prefix + "-" + i))
+                    .timeout(Duration.ofSeconds(120))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latencies[slot] = System.nanoTime() - start;
+                        if (error != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        Result result = new Result();
+        result.requests = requests;
+        result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        result.p50Millis = TimeUnit.NANOSECONDS.toMillis(latencies[requests / 2]);
+        result.p99Millis = TimeUnit.NANOSECONDS.toMillis(latencies[(int) Math.ceil(requests * 0.99) - 1]);
+        result.errors = errors.get();
+        return result;
+    }
+
+    static final class Result {
+        int requests;
+        int peakThreads;
+        long elapsedMillis;
+        long p50Millis;
+        long p99Millis;
+        int errors;
+
+        double throughput() {
+            return requests * 1000.0 / Math.max(1, elapsedMillis);
+        }
+
+        void print(String mode) {
+            System.out.printf(
+                    "%-9s peak threads %5d  %8.1f req/s  p50 %5d ms  p99 %5d ms  errors %d%n",
+                    mode, peakThreads, throughput(), p50Millis, p99Millis, errors);
+        }
+    }
+}
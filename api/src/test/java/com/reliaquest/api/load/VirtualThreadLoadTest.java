@@ -0,0 +1,94 @@
+package com.reliaquest.api.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.ApiApplication;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Throughput of the blocking controller at 10k concurrent connections with request handling on Tomcat's platform
+ * thread pool versus on virtual threads ({@code spring.threads.virtual.enabled}). The upstream answers after a fixed
+ * delay, so the platform pool's 200 threads cap how many lookups are in flight while virtual threads are only bounded
+ * by the outbound connection pool.
+ *
+ * <p>Excluded from {@code test}; run with {@code ./gradlew :api:loadTest}. Needs an open-file limit above 20k.
+ */
+@Tag("load")
+public class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_CONNECTIONS = 10_000;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(50);
+    private static final int UPSTREAM_CONNECTIONS = 2000;
+
+    private static ExecutorService upstreamExecutor;
+    private static ExecutorService clientExecutor;
+    private static EmployeeUpstreamStub upstream;
+    private static LoadDriver driver;
+
+    @BeforeAll
+    static void startUpstream() throws Exception {
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream = EmployeeUpstreamStub.start(UPSTREAM_DELAY, UPSTREAM_CONNECTIONS, upstreamExecutor);
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        driver = new LoadDriver(HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+        upstreamExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void virtualThreads_TenThousandConnections_OutperformPlatformPool() {
+        // Arrange / Act
+        LoadDriver.Result platform = run(false);
+        LoadDriver.Result virtual = run(true);
+
+        // Assert
+        platform.print("platform");
+        virtual.print("virtual");
+        assertEquals(0, platform.errors);
+        assertEquals(0, virtual.errors);
+        assertTrue(
+                virtual.throughput() > platform.throughput(),
+                "virtual " + virtual.throughput() + " req/s vs platform " + platform.throughput() + " req/s");
+    }
+
+    private LoadDriver.Result run(boolean virtualThreads) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.max-connections=" + (CONCURRENT_CONNECTIONS + 1000),
+                        "server.tomcat.accept-count=" + CONCURRENT_CONNECTIONS,
+                        "employee.api.base-url=" + upstream.baseUrl(),
+                        "employee.rate-limit.enabled=false",
+                        "employee.http.max-connections=" + UPSTREAM_CONNECTIONS,
+                        "employee.http.max-connections-per-route=" + UPSTREAM_CONNECTIONS,
+                        // Platform mode queues most requests in Tomcat, so give pool waits room either way
+                        "employee.http.pool-acquire-timeout=60s",
+                        "logging.level.com.reliaquest=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            driver.burst(port, WARMUP_REQUESTS, "warmup");
+            return driver.burst(port, CONCURRENT_CONNECTIONS, virtualThreads ? "virtual" : "platform");
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.reliaquest.api.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class UpstreamCapabilitiesTest {
+
+    private static final Employee JOHN = new Employee("1", "John Doe", "Developer", 100000, 30, "john@example.com");
+
+    private final String baseUrl = "http://dummy-url.com/api/employees";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private MutableClock clock;
+    private UpstreamCapabilities capabilities;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        capabilities = new UpstreamCapabilities(restTemplate, baseUrl, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    void supportsPushdown_UpstreamAppliesParameters_ProbesOnceWithinInterval() throws Exception {
+        // Arrange
+        List<URI> probes = stubUpstream(true);
+
+        // Act
+        boolean first = capabilities.supportsPushdown();
+        clock.advance(Duration.ofMinutes(5));
+        boolean second = capabilities.supportsPushdown();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals(2, probes.size());
+        assertTrue(probes.get(0).getRawQuery().startsWith("name="));
+        assertEquals("sort=salary_desc&limit=1&fields=salary", probes.get(1).getRawQuery());
+    }
+
+    @Test
+    void supportsPushdown_UpstreamIgnoresParameters_ReturnsFalse() throws Exception {
+        // Arrange
+        stubUpstream(false);
+
+        // Act
+        boolean supported = capabilities.supportsPushdown();
+
+        // Assert
+        assertFalse(supported);
+    }
+
+    @Test
+    void supportsPushdown_EmptyRoster_UnknownAndNotCached() throws Exception {
+        // Arrange
+        List<URI> probes = stubUpstream(false, false, List.of());
+
+        // Act
+        boolean first = capabilities.supportsPushdown();
+        boolean second = capabilities.supportsPushdown();
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        assertEquals(4, probes.size());
+    }
+
+    @Test
+    void supportsPushdown_OneRowRosterIgnoringParameters_ReturnsFalseFromNameFilter() throws Exception {
+        // Arrange
+        List<URI> probes = stubUpstream(false, false, List.of(JOHN));
+
+        // Act
+        boolean first = capabilities.supportsPushdown();
+        boolean second = capabilities.supportsPushdown();
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        assertEquals(1, probes.size());
+    }
+
+    @Test
+    void supportsPushdown_OneRowRosterWithoutProjection_UnknownAndNotCached() throws Exception {
+        // Arrange
+        List<URI> probes = stubUpstream(true, false, List.of(JOHN));
+
+        // Act
+        boolean first = capabilities.supportsPushdown();
+        boolean second = capabilities.supportsPushdown();
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        assertEquals(6, probes.size());
+        assertNull(probes.get(2).getRawQuery());
+    }
+
+    @Test
+    void supportsPushdown_OneRowRosterAppliesProjection_ReturnsTrueAndCaches() throws Exception {
+        // Arrange
+        List<URI> probes = stubUpstream(true, true, List.of(JOHN));
+
+        // Act
+        boolean first = capabilities.supportsPushdown();
+        boolean second = capabilities.supportsPushdown();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals(2, probes.size());
+    }
+
+    @Test
+    void supportsPushdown_ProbeFails_KeepsPreviousResultAndRetries() throws Exception {
+        // Arrange
+        List<URI> probes = stubUpstream(true);
+        capabilities.supportsPushdown();
+        clock.advance(Duration.ofMinutes(11));
+        reset(restTemplate);
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        // Act
+        boolean afterFailure = capabilities.supportsPushdown();
+        boolean retried = capabilities.supportsPushdown();
+
+        // Assert
+        assertTrue(afterFailure);
+        assertTrue(retried);
+        assertEquals(2, probes.size());
+        verify(restTemplate, times(2)).execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class));
+    }
+
+    private List<URI> stubUpstream(boolean appliesParameters) throws Exception {
+        return stubUpstream(
+                appliesParameters,
+                appliesParameters,
+                List.of(
+                        JOHN,
+                        new Employee("2", "Jane Smith", "Manager", 120000, 35, "jane@example.com"),
+                        new Employee("3", "Bob Johnson", "Director", 150000, 40, "bob@example.com")));
+    }
+
+    /**
+     * @param appliesParameters whether upstream filters and limits, or answers every probe with the whole roster
+     * @param projects whether limited rows carry only the requested fields
+     */
+    private List<URI> stubUpstream(boolean appliesParameters, boolean projects, List<Employee> roster)
+            throws Exception {
+        List<URI> probes = new ArrayList<>();
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    URI uri = invocation.getArgument(0);
+                    probes.add(uri);
+                    List<Employee> rows = roster;
+                    if (appliesParameters && uri.getRawQuery() != null) {
+                        rows = uri.getRawQuery().startsWith("name=")
+                                ? List.of()
+                                : roster.stream()
+                                        .max(Comparator.comparing(Employee::getSalary))
+                                        .map(top -> projects
+                                                ? new Employee(top.getId(), null, null, top.getSalary(), null, null)
+                                                : top)
+                                        .stream()
+                                        .toList();
+                    }
+                    EmployeeResponse response = new EmployeeResponse();
+                    response.setData(rows);
+                    byte[] body = new ObjectMapper().writeValueAsBytes(response);
+                    return invocation
+                            .getArgument(3, ResponseExtractor.class)
+                            .extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+                });
+        return probes;
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeStreamReaderTest {
+
+    @Test
+    void read_EmployeeResponse_PassesEachEmployeeInOrder() throws IOException {
+        // Arrange
+        String body = "{\"data\":["
+                + "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":100000,\"employee_age\":30,"
+                + "\"employee_title\":\"Developer\",\"employee_email\":\"john@example.com\",\"extra\":{\"a\":[1]}},"
+                + "{\"id\":\"2\",\"employee_name\":\"Jane Smith\",\"employee_salary\":null}"
+                + "],\"status\":\"Successfully processed request.\"}";
+        List<Employee> employees = new ArrayList<>();
+
+        // Act
+        int count = read(body, employees);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals("John Doe", employees.get(0).getName());
+        assertEquals(100000, employees.get(0).getSalary());
+        assertEquals("Developer", employees.get(0).getDesignation());
+        assertEquals("Jane Smith", employees.get(1).getName());
+        assertNull(employees.get(1).getSalary());
+    }
+
+    @Test
+    void read_StatusBeforeDataAndSingleObject_ReadsOneEmployee() throws IOException {
+        // Arrange
+        String body = "{\"status\":\"ok\",\"data\":{\"id\":\"1\",\"employee_name\":\"John Doe\"}}";
+        List<Employee> employees = new ArrayList<>();
+
+        // Act
+        int count = read(body, employees);
+
+        // Assert
+        assertEquals(1, count);
+        assertEquals("1", employees.get(0).getId());
+    }
+
+    @Test
+    void read_EmptyBodyOrNullData_ReadsNothing() throws IOException {
+        // Arrange
+        List<Employee> employees = new ArrayList<>();
+
+        // Act
+        int empty = read("", employees);
+        int nullData = read("{\"data\":null,\"status\":\"ok\"}", employees);
+
+        // Assert
+        assertEquals(0, empty);
+        assertEquals(0, nullData);
+        assertTrue(employees.isEmpty());
+    }
+
+    @Test
+    void read_NullElementsInData_SkipsThemAndKeepsReading() throws IOException {
+        // Arrange
+        String body = "{\"data\":[null,{\"id\":\"1\"},null,{\"id\":\"2\"}],\"status\":\"ok\"}";
+        List<Employee> employees = new ArrayList<>();
+
+        // Act
+        int count = read(body, employees);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(List.of("1", "2"), ids(employees));
+    }
+
+    @Test
+    void read_ScalarElementInData_Throws() {
+        assertThrows(JsonParseException.class, () -> read("{\"data\":[{\"id\":\"1\"},42]}", new ArrayList<>()));
+    }
+
+    @Test
+    void read_NotAnObject_Throws() {
+        assertThrows(JsonParseException.class, () -> read("[1,2]", new ArrayList<>()));
+    }
+
+    @Test
+    void topEarners_FoldedOverStream_MatchesSalaryIndex() throws IOException {
+        // Arrange
+        Random random = new Random(7);
+        StringBuilder body = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            String salary = random.nextInt(20) == 0 ? "null" : String.valueOf(1000 * random.nextInt(50));
+            body.append("{\"id\":\"").append(i).append("\",\"employee_salary\":").append(salary).append('}');
+        }
+        body.append("]}");
+        List<Employee> roster = new ArrayList<>();
+        read(body.toString(), roster);
+        TopEarners topEarners = new TopEarners(25);
+
+        // Act
+        read(body.toString(), new ArrayList<>(), topEarners);
+
+        // Assert
+        SalaryIndex index = SalaryIndex.build(roster);
+        assertEquals(ids(index.topEarners(25)), ids(topEarners.result()));
+        assertEquals(index.highestSalary(), topEarners.highestSalary());
+    }
+
+    private static int read(String body, List<Employee> employees) throws IOException {
+        return read(body, employees, employee -> {});
+    }
+
+    private static int read(String body, List<Employee> employees, Consumer<Employee> sink) throws IOException {
+        return EmployeeStreamReader.read(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), employee -> {
+                    employees.add(employee);
+                    sink.accept(employee);
+                });
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+}
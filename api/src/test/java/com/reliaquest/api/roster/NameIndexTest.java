@@ -0,0 +1,89 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final Employee john = new Employee("1", "John Doe", "Developer", 100000, 30, "john@example.com");
+    private final Employee bob = new Employee("2", "Bob Johnson", "Director", 150000, 40, "bob@example.com");
+    private final Employee anna = new Employee("3", "Anna Banana", "Manager", 120000, 35, "anna@example.com");
+
+    @Test
+    void search_TrigramQuery_ReturnsCaseInsensitiveMatchesInRosterOrder() {
+        // Arrange
+        NameIndex index = NameIndex.build(List.of(john, bob, anna));
+
+        // Act & Assert
+        assertEquals(List.of(john, bob), index.search("JOHN"));
+        assertEquals(List.of(john), index.search("john d"));
+        assertEquals(List.of(anna), index.search("nana"));
+        assertTrue(index.search("XYZ").isEmpty());
+    }
+
+    @Test
+    void search_ShortQuery_ScansNormalizedNames() {
+        // Arrange
+        NameIndex index = NameIndex.build(List.of(john, bob, anna));
+
+        // Act & Assert
+        assertEquals(List.of(john, bob), index.search("Oh"));
+        assertEquals(List.of(john, bob, anna), index.search(""));
+    }
+
+    @Test
+    void search_AfterLocalWrites_ReflectsAddsAndRemoves() {
+        // Arrange
+        Employee johnny = new Employee("4", "Johnny Cash", "Singer", 90000, 45, "johnny@example.com");
+        NameIndex index = NameIndex.build(List.of(john, bob, anna));
+
+        // Act
+        NameIndex result = index.withAdded(johnny).withRemoved(john);
+
+        // Assert
+        assertEquals(List.of(bob, johnny), result.search("john"));
+        assertEquals(List.of(john, bob), index.search("john"));
+    }
+
+    @Test
+    void search_MatchesLinearScanAcrossCompaction() {
+        // Arrange
+        Random random = new Random(42);
+        String[] parts = {"Ann", "anna", "Bob", "JOHN", "son", "Lee", "lee-ann", "O'Neil", "\u00DF", "\u0130z"};
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(randomEmployee(random, parts, i));
+        }
+        NameIndex index = NameIndex.build(roster);
+        for (int i = 0; i < 3 * NameIndex.COMPACTION_THRESHOLD; i++) {
+            if (i % 3 == 0) {
+                index = index.withRemoved(roster.remove(random.nextInt(roster.size())));
+            } else {
+                Employee added = randomEmployee(random, parts, 1000 + i);
+                roster.add(added);
+                index = index.withAdded(added);
+            }
+        }
+
+        // Act & Assert
+        List<String> queries =
+                List.of("", "a", "an", "ann", "ANNA", "john", "son", "lee-a", "o'n", "\u00DF", "\u0130z", "zzz");
+        for (String query : queries) {
+            List<Employee> expected = roster.stream()
+                    .filter(emp -> emp.getName().toLowerCase().contains(query.toLowerCase()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.search(query), "query: " + query);
+        }
+    }
+
+    private static Employee randomEmployee(Random random, String[] parts, int id) {
+        String name = parts[random.nextInt(parts.length)] + " " + parts[random.nextInt(parts.length)];
+        return new Employee(String.valueOf(id), name, "Developer", 50000 + id, 30, id + "@example.com");
+    }
+}
@@ -0,0 +1,190 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RosterCacheTest {
+
+    private final List<Employee> roster =
+            List.of(new Employee("1", "John Doe", "Developer", 100000, 30, "john@example.com"));
+
+    private MutableClock clock;
+    private RosterCache rosterCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        rosterCache = new RosterCache(Duration.ofSeconds(30), 0.8, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    void snapshot_WithinTtl_ServedFromMemory() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Employee>> loader = () -> {
+            loads.incrementAndGet();
+            return roster;
+        };
+
+        // Act
+        RosterSnapshot first = rosterCache.snapshot(loader);
+        clock.advance(Duration.ofSeconds(10));
+        RosterSnapshot second = rosterCache.snapshot(loader);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+    }
+
+    @Test
+    void bindTo_PublishesSizeAndAgeOfHeldSnapshot() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rosterCache.bindTo(registry);
+        double sizeBeforeLoad = registry.get("employee.roster.size").gauge().value();
+
+        // Act
+        rosterCache.snapshot(() -> roster);
+        clock.advance(Duration.ofSeconds(12));
+
+        // Assert
+        assertTrue(Double.isNaN(sizeBeforeLoad));
+        assertEquals(1.0, registry.get("employee.roster.size").gauge().value());
+        assertEquals(12.0, registry.get("employee.roster.age").gauge().value());
+        assertEquals(1.0, registry.get("employee.roster.loads").functionCounter().count());
+    }
+
+    @Test
+    void snapshot_Expired_ReloadsWithNewVersion() {
+        // Arrange
+        Supplier<List<Employee>> loader = () -> roster;
+        RosterSnapshot first = rosterCache.snapshot(loader);
+
+        // Act
+        clock.advance(Duration.ofSeconds(31));
+        RosterSnapshot second = rosterCache.snapshot(loader);
+
+        // Assert
+        assertTrue(second.version() > first.version());
+    }
+
+    @Test
+    void snapshot_UpstreamFailsAfterExpiry_ServesStaleSnapshot() {
+        // Arrange
+        RosterSnapshot first = rosterCache.snapshot(() -> roster);
+        clock.advance(Duration.ofMinutes(1));
+
+        // Act
+        RosterSnapshot result = rosterCache.snapshot(() -> {
+            throw new IllegalStateException("upstream down");
+        });
+
+        // Assert
+        assertSame(first, result);
+    }
+
+    @Test
+    void snapshot_UpstreamFailsWithoutSnapshot_ThrowsLoaderException() {
+        // Act & Assert
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> rosterCache.snapshot(() -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        assertEquals("upstream down", ex.getMessage());
+    }
+
+    @Test
+    void snapshot_ConcurrentMisses_ShareSingleLoad() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<Employee>> loader = () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return roster;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<RosterSnapshot>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> rosterCache.snapshot(loader)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        RosterSnapshot expected = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<RosterSnapshot> result : results) {
+            assertSame(expected, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void snapshot_PastRefreshAheadThreshold_ReturnsCurrentAndRefreshesInBackground() throws Exception {
+        // Arrange
+        RosterSnapshot first = rosterCache.snapshot(() -> roster);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        clock.advance(Duration.ofSeconds(25));
+
+        // Act
+        RosterSnapshot result = rosterCache.snapshot(() -> {
+            refreshed.countDown();
+            return roster;
+        });
+
+        // Assert
+        assertSame(first, result);
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RosterOverlayTest {
+
+    private final Employee john = new Employee("1", "John Doe", "Developer", 100000, 30, "john@example.com");
+    private final Employee jane = new Employee("2", "Jane Smith", "Manager", 120000, 35, "jane@example.com");
+    private final Employee bob = new Employee("3", "Bob Johnson", "Director", 150000, 40, "bob@example.com");
+    private final Employee alice = new Employee("4", "Alice Brown", "Developer", 110000, 28, "alice@example.com");
+
+    private MutableClock clock;
+    private RosterOverlay overlay;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        overlay = new RosterOverlay(Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void apply_PendingWrites_MergedOverSnapshot() {
+        // Arrange
+        overlay.recordCreated(bob);
+        overlay.recordDeleted("1");
+
+        // Act
+        RosterView view = overlay.apply(snapshot(1, john, jane));
+
+        // Assert
+        assertEquals(List.of(jane, bob), view.employees());
+        assertFalse(view.contains("1"));
+        assertEquals(0, view.countByName("John Doe"));
+        assertEquals(List.of(bob, jane), view.salaryIndex().topEarners(10));
+    }
+
+    @Test
+    void apply_SnapshotConfirmsWrites_PrunesThem() {
+        // Arrange
+        overlay.recordCreated(bob);
+        overlay.recordDeleted("1");
+        overlay.apply(snapshot(2, jane, bob));
+
+        // Act
+        // Another client has since re-created John and deleted Bob upstream
+        RosterView view = overlay.apply(snapshot(3, john, jane));
+
+        // Assert
+        assertEquals(List.of(john, jane), view.employees());
+    }
+
+    @Test
+    void apply_WriteOlderThanRetention_Expires() {
+        // Arrange
+        overlay.recordCreated(bob);
+        RosterView withinRetention = overlay.apply(snapshot(1, john));
+        clock.advance(Duration.ofMinutes(6));
+
+        // Act
+        RosterView afterRetention = overlay.apply(snapshot(2, john));
+
+        // Assert
+        assertEquals(List.of(john, bob), withinRetention.employees());
+        assertEquals(List.of(john), afterRetention.employees());
+    }
+
+    @Test
+    void apply_SameSnapshotVersion_ReusesViewAndFoldsLaterWritesIncrementally() {
+        // Arrange
+        RosterView first = overlay.apply(snapshot(1, john, jane));
+        overlay.recordCreated(bob);
+        overlay.recordCreated(alice);
+        overlay.recordDeleted("2");
+
+        // Act
+        RosterView memoized = overlay.apply(snapshot(1, john, jane));
+        // Same version, so the memoized view is returned instead of merging this roster
+        RosterView again = overlay.apply(snapshot(1));
+
+        // Assert
+        assertNotSame(first, memoized);
+        assertSame(memoized, again);
+        assertEquals(List.of(john, jane), first.employees());
+        assertEquals(List.of(john, bob, alice), memoized.employees());
+        assertEquals(1, memoized.snapshotVersion());
+        assertEquals(3, memoized.overlayVersion());
+        assertEquals(List.of(bob, alice, john), memoized.salaryIndex().topEarners(10));
+        assertEquals(List.of(alice), memoized.nameIndex().search("brown"));
+        assertEquals(0, memoized.countByName("Jane Smith"));
+    }
+
+    private RosterSnapshot snapshot(long version, Employee... employees) {
+        return new RosterSnapshot(version, List.of(employees), clock.instant());
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
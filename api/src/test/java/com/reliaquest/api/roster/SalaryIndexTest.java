@@ -0,0 +1,75 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SalaryIndexTest {
+
+    private final Employee john = new Employee("1", "John Doe", "Developer", 100000, 30, "john@example.com");
+    private final Employee jane = new Employee("2", "Jane Smith", "Manager", 120000, 35, "jane@example.com");
+    private final Employee bob = new Employee("3", "Bob Johnson", "Director", 150000, 40, "bob@example.com");
+    private final Employee alice = new Employee("4", "Alice Brown", "Developer", 120000, 28, "alice@example.com");
+
+    @Test
+    void build_OrdersBySalaryDescendingKeepingRosterOrderForTies() {
+        // Act
+        SalaryIndex index = SalaryIndex.build(List.of(john, jane, bob, alice));
+
+        // Assert
+        assertEquals(150000, index.highestSalary());
+        assertEquals(List.of(bob, jane, alice, john), index.topEarners(10));
+        assertEquals(List.of(bob, jane), index.topEarners(2));
+    }
+
+    @Test
+    void build_EmptyRoster_HighestSalaryIsZero() {
+        // Act
+        SalaryIndex index = SalaryIndex.build(List.of());
+
+        // Assert
+        assertEquals(0, index.highestSalary());
+        assertTrue(index.topEarners(10).isEmpty());
+    }
+
+    @Test
+    void withAdded_InsertsAfterEqualSalaries() {
+        // Arrange
+        SalaryIndex index = SalaryIndex.build(List.of(john, jane, bob));
+
+        // Act
+        SalaryIndex result = index.withAdded(alice);
+
+        // Assert
+        assertEquals(List.of(bob, jane, alice, john), result.topEarners(10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void withRemoved_RemovesOnlyThatEmployee() {
+        // Arrange
+        SalaryIndex index = SalaryIndex.build(List.of(john, jane, bob, alice));
+
+        // Act
+        SalaryIndex result = index.withRemoved(jane).withRemoved(bob);
+
+        // Assert
+        assertEquals(120000, result.highestSalary());
+        assertEquals(List.of(alice, john), result.topEarners(10));
+    }
+
+    @Test
+    void build_SkipsEmployeesWithoutSalary() {
+        // Arrange
+        Employee unpaid = new Employee("5", "Unpaid Intern", "Intern", null, 20, "intern@example.com");
+
+        // Act
+        SalaryIndex index = SalaryIndex.build(List.of(john, unpaid));
+
+        // Assert
+        assertEquals(1, index.size());
+        assertSame(index, index.withAdded(unpaid));
+    }
+}
@@ -0,0 +1,177 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeBatchServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeBatchService batchService;
+
+    @AfterEach
+    void tearDown() {
+        if (batchService != null) {
+            batchService.shutdown();
+        }
+    }
+
+    @Test
+    void createEmployees_MixedOutcomes_ReturnsResultPerItemInOrder() {
+        // Arrange
+        batchService = batchService(4, 0);
+        List<EmployeeInput> inputs = inputs("Ann", "Ben", "Cid");
+        when(employeeService.createEmployee(any())).thenAnswer(invocation -> {
+            EmployeeInput input = invocation.getArgument(0);
+            if (input.getName().equals("Ben")) {
+                throw new RuntimeException("Upstream failed");
+            }
+            return Optional.of(new Employee("id-" + input.getName(), input.getName(), "Engineer", 1000, 30, null));
+        });
+
+        // Act
+        List<BatchItemResult<Employee>> results = batchService.createEmployees(inputs);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).success());
+        assertEquals("id-Ann", results.get(0).data().getId());
+        assertFalse(results.get(1).success());
+        assertEquals("Upstream failed", results.get(1).error());
+        assertEquals(1, results.get(1).index());
+        assertTrue(results.get(2).success());
+        assertEquals("id-Cid", results.get(2).data().getId());
+    }
+
+    @Test
+    void createEmployees_ManyItems_NeverExceedsConcurrency() {
+        // Arrange
+        batchService = batchService(3, 0);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(employeeService.createEmployee(any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+            return Optional.of(new Employee("id", "name", "Engineer", 1000, 30, null));
+        });
+
+        // Act
+        List<BatchItemResult<Employee>> results = batchService.createEmployees(inputs(new String[30]));
+
+        // Assert
+        assertTrue(results.stream().allMatch(BatchItemResult::success));
+        assertTrue(peak.get() <= 3, "peak concurrency " + peak.get());
+    }
+
+    @Test
+    void createEmployees_Throttled_RetriesItem() {
+        // Arrange
+        batchService = batchService(1, 2);
+        when(employeeService.createEmployee(any()))
+                .thenThrow(tooManyRequests())
+                .thenReturn(Optional.of(new Employee("id", "Ann", "Engineer", 1000, 30, null)));
+
+        // Act
+        List<BatchItemResult<Employee>> results = batchService.createEmployees(inputs("Ann"));
+
+        // Assert
+        assertTrue(results.get(0).success());
+        verify(employeeService, times(2)).createEmployee(any());
+    }
+
+    @Test
+    void createEmployees_ThrottledPastMaxRetries_ReportsFailure() {
+        // Arrange
+        batchService = batchService(1, 1);
+        when(employeeService.createEmployee(any())).thenThrow(tooManyRequests());
+
+        // Act
+        List<BatchItemResult<Employee>> results = batchService.createEmployees(inputs("Ann"));
+
+        // Assert
+        assertFalse(results.get(0).success());
+        verify(employeeService, times(2)).createEmployee(any());
+    }
+
+    @Test
+    void deleteEmployees_RefusedDelete_ReportsOutcomeAsFailure() {
+        // Arrange
+        batchService = batchService(2, 0);
+        when(employeeService.deleteEmployee("1")).thenReturn(DeleteResult.deleted("1"));
+        when(employeeService.deleteEmployee("2")).thenReturn(DeleteResult.refused("Employee not found with id: 2"));
+
+        // Act
+        List<BatchItemResult<String>> results = batchService.deleteEmployees(List.of("1", "2"));
+
+        // Assert
+        assertTrue(results.get(0).success());
+        assertEquals("Successfully deleted employee with id: 1", results.get(0).data());
+        assertFalse(results.get(1).success());
+        assertEquals("Employee not found with id: 2", results.get(1).error());
+    }
+
+    @Test
+    void deleteEmployees_Throttled_RetriesItem() {
+        // Arrange
+        batchService = batchService(1, 2);
+        when(employeeService.deleteEmployee("1")).thenThrow(tooManyRequests()).thenReturn(DeleteResult.deleted("1"));
+
+        // Act
+        List<BatchItemResult<String>> results = batchService.deleteEmployees(List.of("1"));
+
+        // Assert
+        assertTrue(results.get(0).success());
+        assertEquals("Successfully deleted employee with id: 1", results.get(0).data());
+        verify(employeeService, times(2)).deleteEmployee("1");
+    }
+
+    private EmployeeBatchService batchService(int concurrency, int maxRetries) {
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(100, 100, Duration.ZERO);
+        return new EmployeeBatchService(employeeService, rateLimiter, concurrency, maxRetries, false);
+    }
+
+    private static List<EmployeeInput> inputs(String... names) {
+        List<EmployeeInput> inputs = new ArrayList<>();
+        for (String name : names) {
+            EmployeeInput input = new EmployeeInput();
+            input.setName(name);
+            input.setSalary(1000);
+            input.setAge(30);
+            input.setTitle("Engineer");
+            inputs.add(input);
+        }
+        return inputs;
+    }
+
+    private static HttpClientErrorException tooManyRequests() {
+        return new HttpClientErrorException(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Rate limit exceeded (HTTP 429)",
+                new HttpHeaders(),
+                new byte[0],
+                StandardCharsets.UTF_8);
+    }
+}
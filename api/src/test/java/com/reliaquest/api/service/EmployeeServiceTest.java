@@ -4,10 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RequestCoalescer;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.model.EmployeeResponse;
-
+import com.reliaquest.api.query.QueryOperation;
+import com.reliaquest.api.query.QueryPlanner;
+import com.reliaquest.api.query.QueryStats;
+import com.reliaquest.api.query.QueryStrategy;
+import com.reliaquest.api.query.UpstreamCapabilities;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterOverlay;
+
+import java.net.URI;
 import java.util.*;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +27,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +42,9 @@ public class EmployeeServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private UpstreamCapabilities upstreamCapabilities;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -86,6 +102,37 @@ public class EmployeeServiceTest {
         );
     }
 
+    @Test
+    void getAllEmployees_RepeatedReads_ServedFromCache() {
+        // Arrange
+        EmployeeResponse mockResponse = new EmployeeResponse();
+        mockResponse.setData(mockEmployees);
+
+        ResponseEntity<EmployeeResponse> responseEntity =
+                new ResponseEntity<>(mockResponse, HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        )).thenReturn(responseEntity);
+
+        // Act
+        employeeService.getAllEmployees();
+        employeeService.getHighestSalary();
+        List<String> topTen = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        // Assert
+        assertEquals(10, topTen.size());
+        verify(restTemplate, times(1)).exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        );
+    }
+
     @Test
     void getAllEmployees_EmptyResponse_ReturnsEmptyList() {
         // Arrange
@@ -401,6 +448,52 @@ public class EmployeeServiceTest {
         assertEquals("12", result.get().getId());
     }
 
+    @Test
+    void createEmployee_ThenGetAllEmployees_IncludesCreatedWithoutRefetch() {
+        // Arrange
+        EmployeeResponse getAllResponse = new EmployeeResponse();
+        getAllResponse.setData(mockEmployees);
+
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        )).thenReturn(new ResponseEntity<>(getAllResponse, HttpStatus.OK));
+
+        Employee createdEmployee = new Employee("12", "New Employee", "Software Engineer", 200000, 33, null);
+        EmployeeResponse createResponse = new EmployeeResponse();
+        createResponse.setData(Collections.singletonList(createdEmployee));
+
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                eq(EmployeeResponse.class)
+        )).thenReturn(new ResponseEntity<>(createResponse, HttpStatus.OK));
+
+        EmployeeInput input = new EmployeeInput();
+        input.setName("New Employee");
+        input.setSalary(200000);
+        input.setAge(33);
+        input.setTitle("Software Engineer");
+
+        // Act
+        employeeService.getAllEmployees();
+        employeeService.createEmployee(input);
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(12, result.size());
+        assertEquals(200000, employeeService.getHighestSalary());
+        verify(restTemplate, times(1)).exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        );
+    }
+
     @Test
     void createEmployee_EmptyResponse_ThrowsException() {
         // Arrange
@@ -429,6 +522,7 @@ public class EmployeeServiceTest {
         // Arrange
         String employeeId = "1";
         Employee employee = mockEmployees.get(0);
+        stubGetEmployeeById(employee);
 
         // Mock for getAllEmployees
         EmployeeResponse getAllResponse = new EmployeeResponse();
@@ -463,6 +557,71 @@ public class EmployeeServiceTest {
         verify(restTemplate).exchange(eq(baseUrl), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Map.class));
     }
 
+    @Test
+    void deleteEmployee_UpstreamThrottlesDelete_RethrowsForRetry() {
+        // Arrange
+        stubGetEmployeeById(mockEmployees.get(0));
+        EmployeeResponse getAllResponse = new EmployeeResponse();
+        getAllResponse.setData(mockEmployees);
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        )).thenReturn(new ResponseEntity<>(getAllResponse, HttpStatus.OK));
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.DELETE),
+                any(HttpEntity.class),
+                eq(Map.class)
+        )).thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        // Act
+        HttpClientErrorException e =
+                assertThrows(HttpClientErrorException.class, () -> employeeService.deleteEmployee("1"));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), e.getStatusCode().value());
+        assertTrue(employeeService.deleteEmployeeById("1").startsWith("Error deleting employee with id: 1"));
+    }
+
+    @Test
+    void deleteEmployeeById_ThenGetAllEmployees_ExcludesDeletedWithoutRefetch() {
+        // Arrange
+        stubGetEmployeeById(mockEmployees.get(2));
+        EmployeeResponse getAllResponse = new EmployeeResponse();
+        getAllResponse.setData(mockEmployees);
+
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        )).thenReturn(new ResponseEntity<>(getAllResponse, HttpStatus.OK));
+
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.DELETE),
+                any(HttpEntity.class),
+                eq(Map.class)
+        )).thenReturn(new ResponseEntity<>(Collections.singletonMap("data", true), HttpStatus.OK));
+
+        // Act
+        employeeService.deleteEmployeeById("3");
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(10, result.size());
+        assertTrue(result.stream().noneMatch(e -> e.getId().equals("3")));
+        assertEquals(140000, employeeService.getHighestSalary());
+        verify(restTemplate, times(1)).exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        );
+    }
+
     @Test
     void deleteEmployeeById_NullId_ReturnsErrorMessage() {
         // Act
@@ -478,25 +637,20 @@ public class EmployeeServiceTest {
         // Arrange
         String employeeId = "999";
 
-        // Mock for getAllEmployees
-        EmployeeResponse getAllResponse = new EmployeeResponse();
-        getAllResponse.setData(mockEmployees);
-
-        ResponseEntity<EmployeeResponse> getAllResponseEntity =
-                new ResponseEntity<>(getAllResponse, HttpStatus.OK);
-
         when(restTemplate.exchange(
-                eq(baseUrl),
+                eq(baseUrl + "/" + employeeId),
                 eq(HttpMethod.GET),
                 isNull(),
                 eq(EmployeeResponse.class)
-        )).thenReturn(getAllResponseEntity);
+        )).thenThrow(HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
 
         // Act
         String result = employeeService.deleteEmployeeById(employeeId);
 
         // Assert
         assertTrue(result.contains("Employee not found"));
+        verify(restTemplate, never()).exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), eq(EmployeeResponse.class));
     }
 
     @Test
@@ -509,6 +663,7 @@ public class EmployeeServiceTest {
                 new Employee("1", "John Doe", "Developer", 100000, 30, "john@example.com"),
                 new Employee("2", "John Doe", "Manager", 120000, 35, "john2@example.com") // Same name as first employee
         );
+        stubGetEmployeeById(employeesWithDuplicateNames.get(0));
 
         // Mock for getAllEmployees
         EmployeeResponse getAllResponse = new EmployeeResponse();
@@ -538,19 +693,16 @@ public class EmployeeServiceTest {
         // Arrange
         String employeeId = "01";
 
-        // Mock for getAllEmployees
-        EmployeeResponse getAllResponse = new EmployeeResponse();
-        getAllResponse.setData(mockEmployees);
-
-        ResponseEntity<EmployeeResponse> getAllResponseEntity =
-                new ResponseEntity<>(getAllResponse, HttpStatus.OK);
+        // Mock for getEmployeeById returning no data
+        EmployeeResponse emptyResponse = new EmployeeResponse();
+        emptyResponse.setData(Collections.emptyList());
 
         when(restTemplate.exchange(
-                eq(baseUrl),
+                eq(baseUrl + "/" + employeeId),
                 eq(HttpMethod.GET),
                 isNull(),
                 eq(EmployeeResponse.class)
-        )).thenReturn(getAllResponseEntity);
+        )).thenReturn(new ResponseEntity<>(emptyResponse, HttpStatus.OK));
 
         // Act
         String result = employeeService.deleteEmployeeById(employeeId);
@@ -558,11 +710,234 @@ public class EmployeeServiceTest {
         // Assert
         assertTrue(result.contains("Employee not found"));
         verify(restTemplate).exchange(
-                eq(baseUrl),
+                eq(baseUrl + "/" + employeeId),
                 eq(HttpMethod.GET),
                 isNull(),
                 eq(EmployeeResponse.class)
         );
+        verify(restTemplate, never()).exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void deleteEmployeeById_TargetNotYetInRoster_ChecksOnlyOtherEmployees() {
+        // Arrange
+        Employee newcomer = new Employee("12", "Jane Smith", "Analyst", 70000, 24, "jane2@example.com");
+        stubGetEmployeeById(newcomer);
+
+        EmployeeResponse getAllResponse = new EmployeeResponse();
+        getAllResponse.setData(mockEmployees);
+
+        when(restTemplate.exchange(
+                eq(baseUrl),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        )).thenReturn(new ResponseEntity<>(getAllResponse, HttpStatus.OK));
+
+        // Act
+        String result = employeeService.deleteEmployeeById("12");
+
+        // Assert
+        assertEquals("Cannot delete employee with id: 12. Found 1 other employee(s) with the same name: Jane Smith",
+                result);
+        verify(restTemplate, never()).exchange(
+                eq(baseUrl), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    void searchEmployeesByName_StreamingReads_FoldsOverUpstreamResponse() throws Exception {
+        // Arrange
+        EmployeeService streamingService = streamingService();
+
+        // Act
+        List<Employee> result = streamingService.searchEmployeesByName("JOHN");
+
+        // Assert
+        assertEquals(List.of("John Doe", "Bob Johnson"), result.stream().map(Employee::getName).toList());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(), eq(EmployeeResponse.class));
     }
-}
 
+    @Test
+    void getTopTenHighestEarningEmployeeNames_StreamingReads_MatchesCachedPath() throws Exception {
+        // Arrange
+        EmployeeService streamingService = streamingService();
+
+        // Act
+        List<String> result = streamingService.getTopTenHighestEarningEmployeeNames();
+        Integer highest = streamingService.getHighestSalary();
+
+        // Assert
+        assertEquals(10, result.size());
+        assertEquals(List.of("Bob Johnson", "Frank Miller", "Eve Jackson", "Jane Smith"), result.subList(0, 4));
+        assertEquals("Alice Brown", result.get(8)); // 95000 tie keeps roster order
+        assertEquals("Grace Lee", result.get(9));
+        assertEquals(150000, highest);
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_PushdownSupported_TransfersOnlyTopRows() throws Exception {
+        // Arrange
+        QueryStats stats = new QueryStats();
+        EmployeeService pushdownService = pushdownService(stats);
+        when(upstreamCapabilities.supportsPushdown()).thenReturn(true);
+        List<Employee> topTen = mockEmployees.stream()
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .toList();
+        EmployeeResponse upstream = new EmployeeResponse();
+        upstream.setData(topTen);
+        byte[] body = new ObjectMapper().writeValueAsBytes(upstream);
+        List<URI> queries = new ArrayList<>();
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    queries.add(invocation.getArgument(0));
+                    return invocation
+                            .getArgument(3, ResponseExtractor.class)
+                            .extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+                });
+
+        // Act
+        List<String> result = pushdownService.getTopTenHighestEarningEmployeeNames();
+
+        // Assert
+        assertEquals(topTen.stream().map(Employee::getName).toList(), result);
+        assertEquals("sort=salary_desc&limit=10&fields=name,salary", queries.get(0).getRawQuery());
+        QueryStats.Snapshot pushed = stats.snapshot(QueryOperation.TOP_EARNERS, QueryStrategy.PUSHDOWN);
+        assertEquals(1, pushed.executions());
+        assertEquals(10, pushed.rows());
+        assertEquals(body.length, pushed.bytes());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void searchEmployeesByName_PushdownWithReservedCharacters_PercentEncodesSearchString() throws Exception {
+        // Arrange
+        EmployeeService pushdownService = pushdownService(new QueryStats());
+        when(upstreamCapabilities.supportsPushdown()).thenReturn(true);
+        Employee match = new Employee("12", "R+D & 100% Ops", "Engineer", 90000, 30, "rd@example.com");
+        EmployeeResponse upstream = new EmployeeResponse();
+        upstream.setData(List.of(match));
+        byte[] body = new ObjectMapper().writeValueAsBytes(upstream);
+        List<URI> queries = new ArrayList<>();
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    queries.add(invocation.getArgument(0));
+                    return invocation
+                            .getArgument(3, ResponseExtractor.class)
+                            .extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+                });
+
+        // Act
+        List<Employee> result = pushdownService.searchEmployeesByName("R+D & 100%");
+
+        // Assert
+        assertEquals(List.of("R+D & 100% Ops"), result.stream().map(Employee::getName).toList());
+        assertEquals("name=R%2BD%20%26%20100%25", queries.get(0).getRawQuery());
+        assertEquals("name=R+D & 100%", queries.get(0).getQuery());
+    }
+
+    @Test
+    void deleteEmployeeById_ColdCacheWithPushdown_ChecksSameNameWithoutLoadingRoster() throws Exception {
+        // Arrange
+        QueryStats stats = new QueryStats();
+        EmployeeService pushdownService = pushdownService(stats);
+        when(upstreamCapabilities.supportsPushdown()).thenReturn(true);
+        Employee target = mockEmployees.get(0);
+        stubGetEmployeeById(target);
+        // Upstream matches substrings case-insensitively, so only the first row is an exact match
+        EmployeeResponse upstream = new EmployeeResponse();
+        upstream.setData(List.of(
+                target,
+                new Employee("20", "JOHN DOE", "Analyst", 60000, 25, "jd@example.com"),
+                new Employee("21", "John Doe Jr", "Intern", 30000, 19, "jr@example.com")));
+        byte[] body = new ObjectMapper().writeValueAsBytes(upstream);
+        List<URI> queries = new ArrayList<>();
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    queries.add(invocation.getArgument(0));
+                    return invocation
+                            .getArgument(3, ResponseExtractor.class)
+                            .extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+                });
+        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(Collections.singletonMap("status", "success"), HttpStatus.OK));
+
+        // Act
+        String result = pushdownService.deleteEmployeeById("1");
+
+        // Assert
+        assertEquals("Successfully deleted employee with id: 1", result);
+        assertEquals(1, queries.size());
+        assertEquals("name=John%20Doe", queries.get(0).getRawQuery());
+        assertEquals(1, stats.snapshot(QueryOperation.DELETE_CHECK, QueryStrategy.PUSHDOWN).executions());
+        verify(restTemplate, never()).exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void searchEmployeesByName_PushdownUnsupported_FallsBackToRoster() {
+        // Arrange
+        QueryStats stats = new QueryStats();
+        EmployeeService pushdownService = pushdownService(stats);
+        when(upstreamCapabilities.supportsPushdown()).thenReturn(false);
+        EmployeeResponse mockResponse = new EmployeeResponse();
+        mockResponse.setData(mockEmployees);
+        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), eq(EmployeeResponse.class)))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+
+        // Act
+        List<Employee> first = pushdownService.searchEmployeesByName("john");
+        List<Employee> second = pushdownService.searchEmployeesByName("jane");
+
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals(2, stats.snapshot(QueryOperation.SEARCH, QueryStrategy.LOCAL).executions());
+        QueryStats.Snapshot loads = stats.snapshot(QueryOperation.ROSTER_LOAD, QueryStrategy.FULL_FETCH);
+        assertEquals(1, loads.executions());
+        assertEquals(11, loads.rows());
+        // The second search is answered by the fresh roster without asking about upstream support again
+        verify(upstreamCapabilities, times(1)).supportsPushdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubGetEmployeeById(Employee employee) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(List.of(employee));
+
+        when(restTemplate.exchange(
+                eq(baseUrl + "/" + employee.getId()),
+                eq(HttpMethod.GET),
+                isNull(),
+                eq(EmployeeResponse.class)
+        )).thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
+    }
+
+    private EmployeeService pushdownService(QueryStats stats) {
+        RosterCache rosterCache = RosterCache.withDefaults();
+        return new EmployeeService(
+                restTemplate,
+                baseUrl,
+                rosterCache,
+                RosterOverlay.withDefaults(),
+                new RequestCoalescer(),
+                new QueryPlanner(rosterCache, upstreamCapabilities, true, false),
+                stats);
+    }
+
+    private EmployeeService streamingService() throws Exception {
+        EmployeeResponse upstream = new EmployeeResponse();
+        upstream.setData(mockEmployees);
+        byte[] body = new ObjectMapper().writeValueAsBytes(upstream);
+        when(restTemplate.execute(eq(baseUrl), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> invocation
+                        .getArgument(3, ResponseExtractor.class)
+                        .extractData(new MockClientHttpResponse(body, HttpStatus.OK)));
+        return new EmployeeService(
+                restTemplate,
+                baseUrl,
+                RosterCache.withDefaults(),
+                RosterOverlay.withDefaults(),
+                new RequestCoalescer(),
+                true);
+    }
+}
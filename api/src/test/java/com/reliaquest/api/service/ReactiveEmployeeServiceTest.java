@@ -0,0 +1,314 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterOverlay;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class ReactiveEmployeeServiceTest {
+
+    private static final String BASE_URL = "http://dummy-url.com/api/employees";
+    private static final String BASE_PATH = "/api/employees";
+
+    private final Map<String, Deque<ClientResponseStub>> stubs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    private RosterCache rosterCache;
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        rosterCache = RosterCache.withDefaults();
+        employeeService = service(rosterCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterCache.shutdown();
+    }
+
+    @Test
+    void getEmployeeById_EmployeeExists_ReturnsEmployee() {
+        // Arrange
+        stubEmployee("1", "John Doe", 100000);
+
+        // Act
+        Employee employee = employeeService.getEmployeeById("1").block();
+
+        // Assert
+        assertNotNull(employee);
+        assertEquals("John Doe", employee.getName());
+        assertEquals(100000, employee.getSalary());
+    }
+
+    @Test
+    void getEmployeeById_UpstreamNotFound_ReturnsEmpty() {
+        // Arrange
+        stub(HttpMethod.GET, BASE_PATH + "/404", HttpStatus.NOT_FOUND, "");
+
+        // Act
+        Employee employee = employeeService.getEmployeeById("404").block();
+
+        // Assert
+        assertNull(employee);
+    }
+
+    @Test
+    void searchEmployeesByName_RepeatedSearches_MatchCaseInsensitivelyFromCachedRoster() {
+        // Arrange
+        stubRoster(roster(3));
+
+        // Act
+        List<Employee> first = employeeService.searchEmployeesByName("EMPLOYEE 2").block();
+        List<Employee> second = employeeService.searchEmployeesByName("employee").block();
+
+        // Assert
+        assertEquals(List.of("Employee 2"), names(first));
+        assertEquals(3, second.size());
+        assertEquals(1, calls(HttpMethod.GET, BASE_PATH));
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_ReturnsHighestFirst() {
+        // Arrange
+        stubRoster(roster(11));
+
+        // Act
+        List<String> names = employeeService.getTopTenHighestEarningEmployeeNames().block();
+        Integer highest = employeeService.getHighestSalary().block();
+
+        // Assert
+        assertEquals(10, names.size());
+        assertEquals("Employee 11", names.get(0));
+        assertEquals("Employee 2", names.get(9));
+        assertEquals(11000, highest);
+    }
+
+    @Test
+    void createEmployee_ThenGetAllEmployees_IncludesCreatedWithoutRefetch() {
+        // Arrange
+        stubRoster(roster(2));
+        stub(HttpMethod.POST, BASE_PATH, HttpStatus.OK, "{\"data\":" + employeeJson("99", "New Hire", 5000) + "}");
+        employeeService.getAllEmployees().block();
+        EmployeeInput input = new EmployeeInput();
+        input.setName("New Hire");
+        input.setSalary(5000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+
+        // Act
+        Employee created = employeeService.createEmployee(input).block();
+        List<Employee> employees = employeeService.getAllEmployees().block();
+
+        // Assert
+        assertEquals("99", created.getId());
+        assertEquals(List.of("Employee 1", "Employee 2", "New Hire"), names(employees));
+        assertEquals(1, calls(HttpMethod.GET, BASE_PATH));
+    }
+
+    @Test
+    void deleteEmployeeById_ThenGetAllEmployees_ExcludesDeletedWithoutRefetch() {
+        // Arrange
+        stubRoster(roster(2));
+        stubEmployee("1", "Employee 1", 1000);
+        stub(HttpMethod.DELETE, BASE_PATH, HttpStatus.OK, "{\"data\":true,\"status\":\"ok\"}");
+
+        // Act
+        String outcome = employeeService.deleteEmployeeById("1").block();
+        List<Employee> employees = employeeService.getAllEmployees().block();
+
+        // Assert
+        assertEquals("Successfully deleted employee with id: 1", outcome);
+        assertEquals(List.of("Employee 2"), names(employees));
+        assertEquals(1, calls(HttpMethod.GET, BASE_PATH));
+    }
+
+    @Test
+    void createEmployee_ResponseOnNonBlockingThread_RecordsOverlayWriteOnBoundedElastic() {
+        // Arrange
+        ThreadRecordingOverlay overlay = new ThreadRecordingOverlay();
+        employeeService = service(rosterCache, overlay);
+        stub(HttpMethod.POST, BASE_PATH, HttpStatus.OK, "{\"data\":" + employeeJson("99", "New Hire", 5000) + "}");
+
+        // Act
+        employeeService.createEmployee(new EmployeeInput()).block();
+
+        // Assert
+        assertEquals(1, overlay.writeThreads.size());
+        assertTrue(overlay.writeThreads.get(0).startsWith("boundedElastic-"), overlay.writeThreads.get(0));
+    }
+
+    @Test
+    void deleteEmployeeById_ResponseOnNonBlockingThread_RecordsOverlayWriteOnBoundedElastic() {
+        // Arrange
+        ThreadRecordingOverlay overlay = new ThreadRecordingOverlay();
+        employeeService = service(rosterCache, overlay);
+        stubRoster(roster(2));
+        stubEmployee("1", "Employee 1", 1000);
+        stub(HttpMethod.DELETE, BASE_PATH, HttpStatus.OK, "{\"data\":true,\"status\":\"ok\"}");
+
+        // Act
+        String outcome = employeeService.deleteEmployeeById("1").block();
+
+        // Assert
+        assertEquals("Successfully deleted employee with id: 1", outcome);
+        assertEquals(1, overlay.writeThreads.size());
+        assertTrue(overlay.writeThreads.get(0).startsWith("boundedElastic-"), overlay.writeThreads.get(0));
+    }
+
+    @Test
+    void getAllEmployees_UpstreamThrottled_FailsWithTooManyRequests() {
+        // Arrange
+        stub(HttpMethod.GET, BASE_PATH, HttpStatus.TOO_MANY_REQUESTS, "");
+
+        // Act
+        HttpClientErrorException e = assertThrows(
+                HttpClientErrorException.class, () -> employeeService.getAllEmployees().block());
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), e.getStatusCode().value());
+    }
+
+    @Test
+    void getAllEmployees_UpstreamFailsAfterExpiry_ServesStaleRoster() {
+        // Arrange
+        rosterCache.shutdown();
+        rosterCache = new RosterCache(Duration.ZERO, 1.0, Duration.ofMinutes(10), Clock.systemUTC());
+        employeeService = service(rosterCache);
+        stubRoster(roster(2));
+        stub(HttpMethod.GET, BASE_PATH, HttpStatus.INTERNAL_SERVER_ERROR, "");
+        employeeService.getAllEmployees().block();
+
+        // Act
+        List<Employee> employees = employeeService.getAllEmployees().block();
+
+        // Assert
+        assertEquals(List.of("Employee 1", "Employee 2"), names(employees));
+        assertEquals(2, calls(HttpMethod.GET, BASE_PATH));
+    }
+
+    private ReactiveEmployeeService service(RosterCache cache) {
+        return service(cache, RosterOverlay.withDefaults());
+    }
+
+    private ReactiveEmployeeService service(RosterCache cache, RosterOverlay overlay) {
+        // Same JSON handling as ReactiveClientConfig
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        WebClient webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper)))
+                .exchangeFunction(this::exchange)
+                .build();
+        return new ReactiveEmployeeService(webClient, cache, overlay);
+    }
+
+    /**
+     * Answers with the stubs of the request's method and path in order, repeating the last one. Responses are emitted
+     * on a non-blocking parallel thread, as they would be on the event loop.
+     */
+    private Mono<ClientResponse> exchange(ClientRequest request) {
+        String key = request.method() + " " + request.url().getPath();
+        calls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        Deque<ClientResponseStub> queue = stubs.get(key);
+        if (queue == null) {
+            return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+        }
+        ClientResponseStub stub;
+        synchronized (queue) {
+            stub = queue.size() > 1 ? queue.poll() : queue.peek();
+        }
+        return Mono.just(ClientResponse.create(stub.status())
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(stub.body())
+                        .build())
+                .publishOn(Schedulers.parallel());
+    }
+
+    private void stub(HttpMethod method, String path, HttpStatus status, String body) {
+        stubs.computeIfAbsent(method + " " + path, key -> new ArrayDeque<>())
+                .add(new ClientResponseStub(status, body));
+    }
+
+    private void stubRoster(String employeesJson) {
+        stub(HttpMethod.GET, BASE_PATH, HttpStatus.OK, "{\"data\":" + employeesJson + ",\"status\":\"ok\"}");
+    }
+
+    private void stubEmployee(String id, String name, int salary) {
+        stub(HttpMethod.GET, BASE_PATH + "/" + id, HttpStatus.OK, "{\"data\":" + employeeJson(id, name, salary) + "}");
+    }
+
+    private int calls(HttpMethod method, String path) {
+        AtomicInteger count = calls.get(method + " " + path);
+        return count == null ? 0 : count.get();
+    }
+
+    /** Employees 1 to {@code size}, employee n earning n * 1000. */
+    private static String roster(int size) {
+        return IntStream.rangeClosed(1, size)
+                .mapToObj(n -> employeeJson(Integer.toString(n), "Employee " + n, n * 1000))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String employeeJson(String id, String name, int salary) {
+        return "{\"id\":\"" + id + "\",\"employee_name\":\"" + name + "\",\"employee_salary\":" + salary
+                + ",\"employee_age\":30,\"employee_title\":\"Engineer\",\"employee_email\":\"e@company.com\"}";
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private record ClientResponseStub(HttpStatus status, String body) {}
+
+    /** Overlay remembering the name of each thread that recorded a write. */
+    private static final class ThreadRecordingOverlay extends RosterOverlay {
+        private final List<String> writeThreads = new CopyOnWriteArrayList<>();
+
+        ThreadRecordingOverlay() {
+            super(RosterOverlay.DEFAULT_RETENTION, Clock.systemUTC());
+        }
+
+        @Override
+        public void recordCreated(Employee employee) {
+            writeThreads.add(Thread.currentThread().getName());
+            super.recordCreated(employee);
+        }
+
+        @Override
+        public void recordDeleted(String id) {
+            writeThreads.add(Thread.currentThread().getName());
+            super.recordDeleted(id);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.roster.EmployeeStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Jackson decoding of an upstream {@link EmployeeResponse}: binding the whole body to objects, as the buffered client
+ * does, against folding over it with {@link EmployeeStreamReader}, as streaming reads do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeResponseDecodingBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int rosterSize;
+
+    private ObjectReader responseReader;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Configured as Spring Boot configures the RestTemplate's converter
+        responseReader = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .readerFor(EmployeeResponse.class);
+        body = RosterFixture.responseBody(RosterFixture.roster(rosterSize, 0.1));
+    }
+
+    @Benchmark
+    public EmployeeResponse bindWholeResponse() throws IOException {
+        return responseReader.readValue(body);
+    }
+
+    @Benchmark
+    public int streamEmployees(Blackhole blackhole) throws IOException {
+        return EmployeeStreamReader.read(new ByteArrayInputStream(body), blackhole::consume);
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.client.RequestCoalescer;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterOverlay;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Read paths of {@link EmployeeService} against an in-memory upstream.
+ *
+ * <p>{@code readMode} selects how a read reaches the roster:
+ * <ul>
+ *   <li>{@code cached}: served from a warm roster cache, so only the indexes are measured;
+ *   <li>{@code uncached}: a cache TTL of zero, so every read decodes the full upstream response and builds the roster
+ *       and its indexes again;
+ *   <li>{@code streaming}: every read folds over the upstream response while it is parsed.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    private static final String BASE_URL = "http://upstream.invalid/api/v1/employee";
+
+    @Param({"100", "10000", "1000000"})
+    public int rosterSize;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double nameCollisionRate;
+
+    @Param({"cached", "uncached", "streaming"})
+    public String readMode;
+
+    private RosterCache rosterCache;
+    private EmployeeService employeeService;
+    private String searchString;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> roster = RosterFixture.roster(rosterSize, nameCollisionRate);
+        RestTemplate restTemplate = new RestTemplate(new InMemoryUpstream(RosterFixture.responseBody(roster)));
+        Duration ttl = "uncached".equals(readMode) ? Duration.ZERO : Duration.ofDays(1);
+        rosterCache = new RosterCache(ttl, 1.0, Duration.ZERO, Clock.systemUTC());
+        employeeService = new EmployeeService(
+                restTemplate,
+                BASE_URL,
+                rosterCache,
+                RosterOverlay.withDefaults(),
+                new RequestCoalescer(),
+                "streaming".equals(readMode));
+        // Matches every employee with the most common colliding name, and none at a collision rate of zero
+        searchString = RosterFixture.COMMON_NAMES[0].toLowerCase();
+        // Fill the cache outside the measurement
+        employeeService.getAllEmployees();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        rosterCache.shutdown();
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeesByName() {
+        return employeeService.searchEmployeesByName(searchString);
+    }
+
+    @Benchmark
+    public Integer getHighestSalary() {
+        return employeeService.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+}
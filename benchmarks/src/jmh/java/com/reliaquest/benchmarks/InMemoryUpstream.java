@@ -0,0 +1,84 @@
+package com.reliaquest.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Request factory answering every request with the same pre-serialized body, straight from memory.
+ *
+ * <p>Plugged into the {@code RestTemplate} of the service under test, it keeps sockets, the connection pool and the
+ * mock server out of the measurement; what remains is the API code itself, including reading and decoding the body.
+ */
+final class InMemoryUpstream implements ClientHttpRequestFactory {
+
+    private final byte[] body;
+
+    InMemoryUpstream(byte[] body) {
+        this.body = body;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new AbstractClientHttpRequest() {
+            @Override
+            public HttpMethod getMethod() {
+                return httpMethod;
+            }
+
+            @Override
+            public URI getURI() {
+                return uri;
+            }
+
+            @Override
+            protected OutputStream getBodyInternal(HttpHeaders headers) {
+                return OutputStream.nullOutputStream();
+            }
+
+            @Override
+            protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+                return new Response(body);
+            }
+        };
+    }
+
+    private record Response(byte[] body) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic rosters and their serialized upstream responses.
+ *
+ * <p>A {@code nameCollisionRate} share of employees is named from a small pool of {@link #COMMON_NAMES}, so that the
+ * same-name and search paths see realistic duplicates; everyone else gets a name no other employee has. Salaries
+ * are uniform over a range narrow enough to produce ties at every roster size.
+ */
+final class RosterFixture {
+
+    /** Names shared by colliding employees; the first one matches about {@code rate / 8} of the roster. */
+    static final String[] COMMON_NAMES = {
+        "Jordan Lee", "Taylor Smith", "Morgan Brown", "Casey Jones",
+        "Riley Davis", "Avery Wilson", "Quinn Taylor", "Jamie Clark"
+    };
+
+    private static final String[] GIVEN_NAMES = {
+        "Ada", "Bram", "Cleo", "Dara", "Eli", "Fay", "Gus", "Hana", "Ivo", "Juno", "Kai", "Lia", "Milo", "Nia", "Otto"
+    };
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", "Designer", "Director"};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private RosterFixture() {}
+
+    static List<Employee> roster(int size, double nameCollisionRate) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = random.nextDouble() < nameCollisionRate
+                    ? COMMON_NAMES[random.nextInt(COMMON_NAMES.length)]
+                    : GIVEN_NAMES[i % GIVEN_NAMES.length] + " " + uniqueSurname(i);
+            employees.add(new Employee(
+                    Integer.toString(i),
+                    name,
+                    TITLES[random.nextInt(TITLES.length)],
+                    30_000 + random.nextInt(20_000) * 10,
+                    18 + random.nextInt(50),
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    /** Upstream {@code GET /api/v1/employee} body carrying {@code employees}. */
+    static byte[] responseBody(List<Employee> employees) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(employees);
+        response.setStatus("Successfully processed request.");
+        try {
+            return MAPPER.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** {@code X} followed by {@code n} spelled in base 26, e.g. {@code Xbaa}, so no two surnames coincide. */
+    private static String uniqueSurname(int n) {
+        StringBuilder digits = new StringBuilder();
+        do {
+            digits.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return "X" + digits.reverse();
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The mock server and the api booted in this JVM, each on a random port, with the api pointed at the server.
+ *
+ * <p>Both applications keep their configuration in a classpath {@code application.yml}, and only one of the two can
+ * be found on a shared classpath. Each is therefore started under its own config name, reading
+ * {@code loadtest-server.yml} or {@code loadtest-api.yml} from this module instead, plus the properties given on the
+ * command line.
+ */
+final class EmbeddedStack implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedStack.class);
+
+    private final ConfigurableApplicationContext server;
+    private final ConfigurableApplicationContext api;
+
+    private EmbeddedStack(ConfigurableApplicationContext server, ConfigurableApplicationContext api) {
+        this.server = server;
+        this.api = api;
+    }
+
+    static EmbeddedStack start(LoadTestOptions options) {
+        Map<String, Object> serverProperties = new LinkedHashMap<>();
+        serverProperties.put("spring.config.name", "loadtest-server");
+        serverProperties.put("server.port", "0");
+        serverProperties.put("mock.employees.max", Integer.toString(options.employees()));
+        serverProperties.putAll(options.requestLimitProperties());
+        serverProperties.putAll(options.serverProperties());
+        ConfigurableApplicationContext server = new SpringApplicationBuilder(ServerApplication.class)
+                .properties(serverProperties)
+                .run();
+
+        try {
+            Map<String, Object> apiProperties = new LinkedHashMap<>();
+            apiProperties.put("spring.config.name", "loadtest-api");
+            apiProperties.put("server.port", "0");
+            apiProperties.put("employee.api.base-url", "http://127.0.0.1:" + port(server) + "/api/v1/employee");
+            apiProperties.putAll(options.apiProperties());
+            ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                    .properties(apiProperties)
+                    .run();
+            logger.info("Mock server on port {}, api on port {}", port(server), port(api));
+            return new EmbeddedStack(server, api);
+        } catch (RuntimeException e) {
+            server.close();
+            throw e;
+        }
+    }
+
+    String apiUrl() {
+        return "http://127.0.0.1:" + port(api);
+    }
+
+    @Override
+    public void close() {
+        api.close();
+        server.close();
+    }
+
+    private static String port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getProperty("local.server.port");
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.loadtest.LoadTestOptions.LoopMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives a {@link Workload} for the configured time and collects per-operation latencies.
+ *
+ * <p>In the open loop requests are started on a fixed schedule of {@code rate} per second, whether or not earlier
+ * ones have returned, and each latency is measured from the request's scheduled start. When the api falls behind,
+ * the queueing delay shows up in the percentiles instead of lowering the send rate, so the results are free of
+ * coordinated omission. A paced closed loop applies the same rule per user. Requests scheduled during the warmup are
+ * sent but not recorded.
+ */
+final class LoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadTestOptions options;
+    private final Workload workload;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    LoadGenerator(LoadTestOptions options, Workload workload) {
+        this.options = options;
+        this.workload = workload;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    LoadReport run() throws InterruptedException {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        logger.info("Running {} loop for {} after {} warmup", options.loop(), options.duration(), options.warmup());
+        if (options.loop() == LoopMode.OPEN) {
+            runOpen(start, measureFrom, end);
+        } else {
+            runClosed(start, measureFrom, end);
+        }
+        return report(startedAt);
+    }
+
+    private void runOpen(long start, long measureFrom, long end) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        AtomicLong inFlight = new AtomicLong();
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            parkUntil(intended);
+            Operation operation = options.mix().next(random);
+            inFlight.incrementAndGet();
+            try {
+                workload.execute(operation, random).whenComplete((outcome, error) -> {
+                    record(operation, intended, measureFrom, outcome, error);
+                    inFlight.decrementAndGet();
+                });
+            } catch (RuntimeException e) {
+                record(operation, intended, measureFrom, null, e);
+                inFlight.decrementAndGet();
+            }
+        }
+        // Every request has a timeout, so this ends
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void runClosed(long start, long measureFrom, long end) throws InterruptedException {
+        Long paceNanos = options.pace() != null ? options.pace().toNanos() : null;
+        List<Thread> users = new ArrayList<>(options.concurrency());
+        for (int u = 0; u < options.concurrency(); u++) {
+            // Stagger paced users across one period so their requests do not all start together
+            long firstStart = paceNanos != null ? start + paceNanos * u / options.concurrency() : start;
+            users.add(Thread.ofVirtual()
+                    .name("load-user-" + u)
+                    .start(() -> runUser(firstStart, paceNanos, measureFrom, end)));
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    private void runUser(long firstStart, Long paceNanos, long measureFrom, long end) {
+        SplittableRandom random = new SplittableRandom();
+        long next = firstStart;
+        while (true) {
+            long intended;
+            if (paceNanos != null) {
+                intended = next;
+                next += paceNanos;
+                parkUntil(intended);
+            } else {
+                intended = System.nanoTime();
+            }
+            if (intended >= end) {
+                return;
+            }
+            Operation operation = options.mix().next(random);
+            try {
+                record(operation, intended, measureFrom, workload.execute(operation, random).join(), null);
+            } catch (CompletionException e) {
+                record(operation, intended, measureFrom, null, e.getCause());
+            } catch (RuntimeException e) {
+                record(operation, intended, measureFrom, null, e);
+            }
+        }
+    }
+
+    private void record(
+            Operation requested, long intended, long measureFrom, Workload.Outcome outcome, Throwable error) {
+        if (intended < measureFrom) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (outcome != null) {
+            stats.get(outcome.operation()).recordResponse(intended, now, outcome.status());
+        } else {
+            logger.debug("{} failed: {}", requested.tag(), error.toString());
+            stats.get(requested).recordError(intended, now);
+        }
+    }
+
+    private LoadReport report(Instant startedAt) {
+        double measuredSeconds = options.duration().toMillis() / 1000.0;
+        Map<String, LoadReport.OperationReport> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> {
+            LoadReport.OperationReport report = operationStats.report(measuredSeconds);
+            if (report.requests() > 0) {
+                operations.put(operation.tag(), report);
+            }
+        });
+
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("loop", options.loop().name().toLowerCase());
+        if (options.loop() == LoopMode.OPEN) {
+            configuration.put("rate", options.rate());
+        } else {
+            configuration.put("concurrency", options.concurrency());
+            configuration.put("pace", options.pace() != null ? options.pace().toString() : null);
+        }
+        configuration.put("duration", options.duration().toString());
+        configuration.put("warmup", options.warmup().toString());
+        configuration.put("mix", options.mix().toString());
+        configuration.put("target", options.apiUrl() != null ? options.apiUrl() : "embedded");
+        if (options.apiUrl() == null) {
+            configuration.put("employees", options.employees());
+            configuration.put("requestLimit", options.requestLimit());
+            configuration.put("apiProperties", options.apiProperties());
+            configuration.put("serverProperties", options.serverProperties());
+        }
+
+        return new LoadReport(
+                options.label(),
+                startedAt.toString(),
+                configuration,
+                options.loop() == LoopMode.OPEN || options.pace() != null,
+                measuredSeconds,
+                OperationStats.merge(stats.values()).report(measuredSeconds),
+                operations);
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a load test run, written as JSON so runs on different commits can be compared by tooling. Latencies are
+ * in milliseconds.
+ *
+ * @param coordinatedOmissionCorrected whether latencies are measured from scheduled start times (open loop, or a
+ *     paced closed loop); a back-to-back closed loop measures service time only
+ */
+record LoadReport(
+        String label,
+        String startedAt,
+        Map<String, Object> configuration,
+        boolean coordinatedOmissionCorrected,
+        double measuredSeconds,
+        OperationReport overall,
+        Map<String, OperationReport> operations) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    void print() {
+        System.out.printf("%-15s %9s %10s %9s %9s %9s %9s %9s %7s%n",
+                "operation", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "non-2xx", "errors");
+        operations.forEach(this::printRow);
+        printRow("overall", overall);
+    }
+
+    private void printRow(String name, OperationReport report) {
+        System.out.printf("%-15s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9d %7d%n",
+                name,
+                report.requests(),
+                report.throughput(),
+                report.p50(),
+                report.p99(),
+                report.p999(),
+                report.max(),
+                report.throttled() + report.failed(),
+                report.errors());
+    }
+
+    record OperationReport(
+            long requests,
+            double throughput,
+            long ok,
+            long throttled,
+            long failed,
+            long errors,
+            double mean,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max) {
+
+        static OperationReport of(
+                Histogram micros, long ok, long throttled, long failed, long errors, double measuredSeconds) {
+            long requests = micros.getTotalCount();
+            return new OperationReport(
+                    requests,
+                    measuredSeconds > 0 ? requests / measuredSeconds : 0,
+                    ok,
+                    throttled,
+                    failed,
+                    errors,
+                    millis(micros.getMean()),
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(90)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue()));
+        }
+
+        private static double millis(double micros) {
+            return Math.round(micros) / 1000.0;
+        }
+    }
+}
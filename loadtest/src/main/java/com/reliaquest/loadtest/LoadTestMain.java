@@ -0,0 +1,38 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Load test of the api against the mock server, either both booted in this JVM or an api started separately.
+ *
+ * <p>Example: {@code ./gradlew loadtest:bootRun --args='--loop=open --rate=500 --duration=2m --label=abc123'}. See
+ * {@link LoadTestOptions} for all options. Prints a summary and writes a JSON {@link LoadReport}.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        EmbeddedStack stack = options.apiUrl() == null ? EmbeddedStack.start(options) : null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String apiUrl = stack != null ? stack.apiUrl() : options.apiUrl();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            LoadReport report = new LoadGenerator(options, Workload.prepare(client, apiUrl)).run();
+            report.print();
+            report.write(options.report());
+            System.out.println("Report written to " + options.report().toAbsolutePath());
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line of a load test run. Arguments are {@code --key=value}; {@code --api.<property>=<value>} and
+ * {@code --server.<property>=<value>} are passed through to the embedded applications.
+ *
+ * @param apiUrl base URL of an api started separately, e.g. {@code http://localhost:8080}; {@code null} boots the
+ *     mock server and the api in this JVM
+ * @param loop closed: {@code concurrency} users each send their next request when the previous one returns; open:
+ *     requests start at {@code rate} per second whatever the response times
+ * @param pace closed loop only: each user starts a request every {@code pace} instead of back to back, and latency is
+ *     measured from the scheduled start; {@code null} for back to back
+ * @param requestLimit mock server throttling: {@code off}, {@code random}, or {@code <requests>/<window>} such as
+ *     {@code 20/1s}, optionally prefixed with the algorithm, e.g. {@code token-bucket:20/1s}
+ */
+record LoadTestOptions(
+        String apiUrl,
+        LoopMode loop,
+        int concurrency,
+        Duration pace,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        OperationMix mix,
+        int employees,
+        String requestLimit,
+        Map<String, String> apiProperties,
+        Map<String, String> serverProperties,
+        Path report,
+        String label) {
+
+    enum LoopMode {
+        CLOSED,
+        OPEN
+    }
+
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> apiProperties = new LinkedHashMap<>();
+        Map<String, String> serverProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            if (key.startsWith("api.")) {
+                apiProperties.put(key.substring(4), value);
+            } else if (key.startsWith("server.")) {
+                serverProperties.put(key.substring(7), value);
+            } else {
+                values.put(key, value);
+            }
+        }
+
+        String pace = values.remove("pace");
+        LoadTestOptions options = new LoadTestOptions(
+                values.remove("api-url"),
+                LoopMode.valueOf(take(values, "loop", "closed").toUpperCase()),
+                Integer.parseInt(take(values, "concurrency", "16")),
+                pace != null ? DurationStyle.detectAndParse(pace) : null,
+                Double.parseDouble(take(values, "rate", "200")),
+                DurationStyle.detectAndParse(take(values, "duration", "60s")),
+                DurationStyle.detectAndParse(take(values, "warmup", "10s")),
+                OperationMix.parse(take(values, "mix", OperationMix.DEFAULT)),
+                Integer.parseInt(take(values, "employees", "1000")),
+                take(values, "request-limit", "off"),
+                apiProperties,
+                serverProperties,
+                Path.of(take(values, "report", "build/reports/loadtest/report.json")),
+                take(values, "label", System.getenv().getOrDefault("GIT_COMMIT", "unlabelled")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.concurrency < 1 || options.rate <= 0) {
+            throw new IllegalArgumentException("Concurrency and rate must be positive");
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @return mock server properties selecting the {@code request-limit} option
+     */
+    Map<String, String> requestLimitProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        switch (requestLimit) {
+            case "off" -> properties.put("mock.request-limit.enabled", "false");
+            case "random" -> properties.put("mock.request-limit.enabled", "true");
+            default -> {
+                String limit = requestLimit;
+                int algorithmEnd = limit.indexOf(':');
+                if (algorithmEnd > 0) {
+                    properties.put("mock.request-limit.algorithm", limit.substring(0, algorithmEnd));
+                    limit = limit.substring(algorithmEnd + 1);
+                }
+                String[] parts = limit.split("/");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException(
+                            "Expected off, random or [<algorithm>:]<requests>/<window>: " + requestLimit);
+                }
+                properties.put("mock.request-limit.enabled", "true");
+                properties.put("mock.request-limit.max-requests", parts[0]);
+                properties.put("mock.request-limit.window", parts[1]);
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.loadtest;
+
+/**
+ * Employee API calls a load test can mix, named as in {@code --mix}.
+ */
+enum Operation {
+    GET_ALL("get-all"),
+    SEARCH("search"),
+    GET_BY_ID("get-by-id"),
+    HIGHEST_SALARY("highest-salary"),
+    TOP_TEN("top-ten"),
+    CREATE("create"),
+    /** Deletes an employee created earlier in the run, so the seeded roster stays intact. */
+    DELETE("delete");
+
+    private final String tag;
+
+    Operation(String tag) {
+        this.tag = tag;
+    }
+
+    String tag() {
+        return tag;
+    }
+
+    static Operation fromTag(String tag) {
+        for (Operation operation : values()) {
+            if (operation.tag.equals(tag)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + tag);
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice of the next {@link Operation}, parsed from e.g. {@code get-all:30,search:20,create:5}.
+ */
+final class OperationMix {
+
+    static final String DEFAULT =
+            "get-all:30,search:20,get-by-id:20,highest-salary:10,top-ten:10,create:5,delete:5";
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.fromTag(parts[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no operation with a positive weight: " + spec);
+        }
+        return new OperationMix(weights);
+    }
+
+    Operation next(RandomGenerator random) {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner spec = new StringJoiner(",");
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            spec.add(operations[i].tag() + ":" + (cumulativeWeights[i] - previous));
+            previous = cumulativeWeights[i];
+        }
+        return spec.toString();
+    }
+}
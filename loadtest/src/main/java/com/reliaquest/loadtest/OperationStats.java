@@ -0,0 +1,62 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of one {@link Operation}, safe to record from many threads.
+ *
+ * <p>Latencies are recorded in microseconds with three significant digits. Callers pass the time a request was
+ * meant to start rather than when it was sent, so time a request spent waiting behind slow ones is counted against
+ * it instead of silently dropped.
+ */
+final class OperationStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void recordResponse(long intendedStartNanos, long endNanos, int status) {
+        recordLatency(intendedStartNanos, endNanos);
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status == 429) {
+            throttled.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    /**
+     * Records a request that got no response, e.g. a connection failure or timeout.
+     */
+    void recordError(long intendedStartNanos, long endNanos) {
+        recordLatency(intendedStartNanos, endNanos);
+        errors.increment();
+    }
+
+    static OperationStats merge(Iterable<OperationStats> parts) {
+        OperationStats total = new OperationStats();
+        for (OperationStats part : parts) {
+            total.latencies.add(part.latencies);
+            total.ok.add(part.ok.sum());
+            total.throttled.add(part.throttled.sum());
+            total.failed.add(part.failed.sum());
+            total.errors.add(part.errors.sum());
+        }
+        return total;
+    }
+
+    LoadReport.OperationReport report(double measuredSeconds) {
+        return LoadReport.OperationReport.of(
+                latencies, ok.sum(), throttled.sum(), failed.sum(), errors.sum(), measuredSeconds);
+    }
+
+    private void recordLatency(long intendedStartNanos, long endNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(Math.max(0, endNanos - intendedStartNanos)));
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Turns {@link Operation}s into requests against the api, with realistic arguments: ids and name fragments taken from
+ * the roster at the start of the run, and deletes aimed at employees this run created.
+ */
+final class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_SEARCH_FRAGMENTS = 256;
+
+    private final HttpClient client;
+    private final String employeesUrl;
+    private final List<String> seededIds;
+    private final List<String> searchFragments;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong creates = new AtomicLong();
+
+    private Workload(HttpClient client, String employeesUrl, List<String> seededIds, List<String> searchFragments) {
+        this.client = client;
+        this.employeesUrl = employeesUrl;
+        this.seededIds = seededIds;
+        this.searchFragments = searchFragments;
+    }
+
+    /**
+     * Reads the current roster through the api to pick arguments from.
+     */
+    static Workload prepare(HttpClient client, String apiUrl) throws IOException, InterruptedException {
+        String employeesUrl = apiUrl + "/api/v1/employee";
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(employeesUrl))
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Reading the roster failed with status " + response.statusCode());
+        }
+        List<String> ids = new ArrayList<>();
+        List<String> fragments = new ArrayList<>();
+        for (JsonNode employee : new ObjectMapper().readTree(response.body())) {
+            ids.add(employee.path("id").asText());
+            String name = employee.path("employee_name").asText("");
+            if (fragments.size() < MAX_SEARCH_FRAGMENTS && name.length() >= 3) {
+                // The first few letters of the name, as a user would start typing it
+                fragments.add(name.substring(0, Math.min(name.length(), 4)).toLowerCase(Locale.ROOT));
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The roster is empty");
+        }
+        if (fragments.isEmpty()) {
+            fragments.add("a");
+        }
+        return new Workload(client, employeesUrl, List.copyOf(ids), List.copyOf(fragments));
+    }
+
+    /**
+     * Sends one request for {@code operation}. A delete with no created employee left becomes a create.
+     *
+     * @return the operation actually sent and its response status
+     */
+    CompletableFuture<Outcome> execute(Operation operation, RandomGenerator random) {
+        if (operation == Operation.DELETE) {
+            String id = createdIds.poll();
+            if (id == null) {
+                return execute(Operation.CREATE, random);
+            }
+            return send(Operation.DELETE, request(employeesUrl + "/" + id).DELETE());
+        }
+        return switch (operation) {
+            case GET_ALL -> send(operation, request(employeesUrl).GET());
+            case SEARCH -> send(operation, request(employeesUrl + "/search/" + encode(pick(searchFragments, random)))
+                    .GET());
+            case GET_BY_ID -> send(operation, request(employeesUrl + "/" + pick(seededIds, random)).GET());
+            case HIGHEST_SALARY -> send(operation, request(employeesUrl + "/highestSalary").GET());
+            case TOP_TEN -> send(operation, request(employeesUrl + "/topTenHighestEarningEmployeeNames").GET());
+            case CREATE -> send(operation, request(employeesUrl)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(createBody(random))));
+            case DELETE -> throw new IllegalStateException("Handled above");
+        };
+    }
+
+    private CompletableFuture<Outcome> send(Operation operation, HttpRequest.Builder request) {
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (operation == Operation.CREATE && response.statusCode() == 200) {
+                        rememberCreated(response.body());
+                    }
+                    return new Outcome(operation, response.statusCode());
+                });
+    }
+
+    private void rememberCreated(byte[] body) {
+        try {
+            String id = mapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                createdIds.add(id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] createBody(RandomGenerator random) {
+        try {
+            return mapper.writeValueAsBytes(mapper.createObjectNode()
+                    .put("name", "Load Test " + creates.incrementAndGet() + " " + Long.toHexString(random.nextLong()))
+                    .put("salary", random.nextInt(30_000, 500_000))
+                    .put("age", random.nextInt(18, 66))
+                    .put("title", "Load Tester"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private static String pick(List<String> values, RandomGenerator random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String pathSegment) {
+        return URLEncoder.encode(pathSegment, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    record Outcome(Operation operation, int status) {}
+}
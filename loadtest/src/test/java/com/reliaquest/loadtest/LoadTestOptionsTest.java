@@ -0,0 +1,56 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class LoadTestOptionsTest {
+
+    @Test
+    void parse_PassThroughProperties_SplitByApplication() {
+        // Act
+        LoadTestOptions options = LoadTestOptions.parse(
+                "--loop=open",
+                "--rate=250",
+                "--duration=2m",
+                "--api.employee.cache.ttl=0s",
+                "--server.mock.employees.max=5");
+
+        // Assert
+        assertEquals(LoadTestOptions.LoopMode.OPEN, options.loop());
+        assertEquals(250, options.rate());
+        assertEquals(Duration.ofMinutes(2), options.duration());
+        assertEquals(Map.of("employee.cache.ttl", "0s"), options.apiProperties());
+        assertEquals(Map.of("mock.employees.max", "5"), options.serverProperties());
+    }
+
+    @Test
+    void requestLimitProperties_Pinned_SetsAlgorithmLimitAndWindow() {
+        // Act
+        Map<String, String> properties =
+                LoadTestOptions.parse("--request-limit=token-bucket:20/1s").requestLimitProperties();
+
+        // Assert
+        assertEquals("true", properties.get("mock.request-limit.enabled"));
+        assertEquals("token-bucket", properties.get("mock.request-limit.algorithm"));
+        assertEquals("20", properties.get("mock.request-limit.max-requests"));
+        assertEquals("1s", properties.get("mock.request-limit.window"));
+    }
+
+    @Test
+    void requestLimitProperties_Default_DisablesLimit() {
+        // Act
+        Map<String, String> properties = LoadTestOptions.parse().requestLimitProperties();
+
+        // Assert
+        assertEquals(Map.of("mock.request-limit.enabled", "false"), properties);
+    }
+
+    @Test
+    void parse_UnknownOption_Throws() {
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--concurency=4"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class OperationMixTest {
+
+    @Test
+    void next_ManyDraws_FollowsWeights() {
+        // Arrange
+        OperationMix mix = OperationMix.parse("get-all:3, create:1, delete:0");
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        // Act
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(2, counts.size());
+        assertEquals(30_000, counts.get(Operation.GET_ALL), 600);
+        assertEquals(10_000, counts.get(Operation.CREATE), 600);
+        assertEquals("get-all:3,create:1", mix.toString());
+    }
+
+    @Test
+    void parse_UnknownOperation_Throws() {
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get-all:1,fly:2"));
+    }
+
+    @Test
+    void parse_NoPositiveWeight_Throws() {
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get-all:0"));
+    }
+}
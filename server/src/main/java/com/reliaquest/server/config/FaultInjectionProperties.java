@@ -0,0 +1,35 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.fault.FaultProfile;
+import com.reliaquest.server.web.MockEndpoint;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fault injection settings under {@code mock.faults}. Applied only when {@code mock.faults.enabled} is true.
+ *
+ * @param seed seed of every injected fault, or {@code null} for a new one on each start
+ * @param defaults profile of endpoints without their own, or {@code null} to leave them alone
+ * @param endpoints profile by {@link MockEndpoint} name
+ */
+@ConfigurationProperties(prefix = "mock.faults")
+public record FaultInjectionProperties(Long seed, FaultProfile defaults, Map<String, FaultProfile> endpoints) {
+
+    /**
+     * @return the profile of each endpoint that has one, by endpoint name
+     */
+    public Map<String, FaultProfile> profiles() {
+        if (endpoints != null) {
+            endpoints.keySet().forEach(MockEndpoint::fromKey);
+        }
+        final var profiles = new LinkedHashMap<String, FaultProfile>();
+        for (MockEndpoint endpoint : MockEndpoint.values()) {
+            final var profile = endpoints != null ? endpoints.getOrDefault(endpoint.key(), defaults) : defaults;
+            if (profile != null) {
+                profiles.put(endpoint.key(), profile);
+            }
+        }
+        return profiles;
+    }
+}
@@ -1,19 +1,28 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.fault.FaultInjector;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.ratelimit.KeyedRequestLimiter;
+import com.reliaquest.server.ratelimit.RequestLimitAlgorithm;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.seed.GenerationProfile;
+import com.reliaquest.server.seed.MockEmployeeGenerator;
+import com.reliaquest.server.seed.MockEmployeeSeedFile;
+import com.reliaquest.server.seed.SalaryDistribution;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +30,122 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(FaultInjectionProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+
+    @Value("${mock.request-limit.enabled:true}")
+    private boolean requestLimitEnabled;
+
+    @Value("${mock.request-limit.algorithm:sliding-window}")
+    private RequestLimitAlgorithm requestLimitAlgorithm;
+
+    @Value("${mock.request-limit.max-requests:#{null}}")
+    private Integer requestLimitMaxRequests;
+
+    @Value("${mock.request-limit.window:#{null}}")
+    private Duration requestLimitWindow;
+
+    @Value("${mock.request-limit.per-client.max-requests:#{null}}")
+    private Integer perClientMaxRequests;
+
+    @Value("${mock.request-limit.per-client.window:1m}")
+    private Duration perClientWindow;
+
+    @Value("${mock.request-limit.per-client.key-header:X-Client-Id}")
+    private String clientKeyHeader;
+
+    /*
+     * Seeded alongside the roster so a fixed mock.employees.seed also repeats the emails handed to created employees.
+     */
+    @Bean
+    public Faker faker(
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en_US}") Locale locale) {
+        return seed != null ? new Faker(locale, new Random(seed)) : new Faker(locale);
+    }
+
+    /*
+     * Generation is a pure function of this profile. The locale is fixed rather than taken from the host so the
+     * same seed yields the same roster on every machine.
+     */
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public GenerationProfile generationProfile(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en_US}") Locale locale,
+            @Value("${mock.employees.salary.distribution:uniform}") SalaryDistribution salaryDistribution,
+            @Value("${mock.employees.salary.min:30000}") int minSalary,
+            @Value("${mock.employees.salary.max:500000}") int maxSalary,
+            @Value("${mock.employees.name-collision-rate:0}") double nameCollisionRate) {
+        return new GenerationProfile(
+                seed != null ? seed : RandomGenerator.getDefault().nextLong(),
+                maxEmployees,
+                locale,
+                salaryDistribution,
+                minSalary,
+                maxSalary,
+                nameCollisionRate);
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This repository is modifiable by design for CRUD operations. It is seeded from mock.employees.seed-file when
+     * set, otherwise generated from the generation profile.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeRepository mockEmployeeRepository(
+            GenerationProfile generationProfile,
+            @Value("${mock.employees.seed-file:#{null}}") Path seedFile,
+            @Value("${mock.employees.export-file:#{null}}") Path exportFile)
+            throws IOException {
+        final List<MockEmployee> mockEmployees = seedFile != null
+                ? MockEmployeeSeedFile.read(seedFile)
+                : new MockEmployeeGenerator(generationProfile).generate();
+        if (exportFile != null) {
+            MockEmployeeSeedFile.write(exportFile, mockEmployees);
+        }
+        return MockEmployeeRepository.of(mockEmployees);
     }
 
+    /*
+     * Without a configured seed the faults differ on every start; the seed is logged so a run can be repeated.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mock.faults.enabled", havingValue = "true")
+    public FaultInjectionFilter faultInjectionFilter(FaultInjectionProperties faults) {
+        final var seed = faults.seed() != null ? faults.seed() : RandomGenerator.getDefault().nextLong();
+        final var profiles = faults.profiles();
+        log.info("Fault injection enabled for {} with seed {}", profiles.keySet(), seed);
+        return new FaultInjectionFilter(new FaultInjector(seed, profiles));
+    }
+
+    /*
+     * Without a configured limit or window the global limit is picked at random on startup, as the challenge expects;
+     * pin both for repeatable runs, or switch the limiter off to measure the server itself.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (!requestLimitEnabled) {
+            log.info("Request limit disabled");
+            return;
+        }
+        final var maxRequests = requestLimitMaxRequests != null
+                ? requestLimitMaxRequests
+                : RandomGenerator.getDefault().nextInt(5, 10);
+        final var window = requestLimitWindow != null
+                ? requestLimitWindow
+                : Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+        log.info("Request limit: {} requests per {} ({})", maxRequests, window, requestLimitAlgorithm);
+        KeyedRequestLimiter clientLimiter = null;
+        if (perClientMaxRequests != null) {
+            log.info("Per-client request limit: {} requests per {}", perClientMaxRequests, perClientWindow);
+            clientLimiter = new KeyedRequestLimiter(
+                    () -> requestLimitAlgorithm.create(perClientMaxRequests, perClientWindow), MAX_TRACKED_CLIENTS);
+        }
+        registry.addInterceptor(new RequestLimitInterceptor(
+                requestLimitAlgorithm.create(maxRequests, window), clientLimiter, clientKeyHeader, System::nanoTime));
     }
 }
@@ -4,31 +4,83 @@ import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.query.EmployeeField;
+import com.reliaquest.server.query.EmployeeQuery;
+import com.reliaquest.server.query.SalarySort;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeResponseWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
+@Validated
 public class MockEmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int MAX_PAGE_SIZE = 10_000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeResponseWriter mockEmployeeResponseWriter;
+
+    /**
+     * Without parameters returns the whole roster. Otherwise filters by name substring and salary range, orders by
+     * salary, pages with {@code limit} and the cursor from the previous page's {@value #NEXT_CURSOR_HEADER} header,
+     * and projects to {@code fields} (comma-separated, the id is always included).
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public void getEmployees(
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "limit", required = false) @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "fields", required = false) String fields,
+            HttpServletResponse response)
+            throws IOException {
+        final var query = EmployeeQuery.builder()
+                .nameContains(name)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .sort(sort == null ? null : SalarySort.parse(sort))
+                .limit(limit)
+                .cursor(cursor)
+                .fields(fields == null ? null : EmployeeField.parseAll(fields))
+                .build();
+        if (query.isEmpty()) {
+            mockEmployeeResponseWriter.writeHandled(mockEmployeeService.getMockEmployees(), response);
+            return;
+        }
+
+        final var page = mockEmployeeService.query(query);
+        if (page.nextCursor() != null) {
+            response.setHeader(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        mockEmployeeResponseWriter.writeHandled(page.mockEmployees(), query.fields(), response);
     }
 
     @GetMapping("/{id}")
@@ -48,4 +100,16 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid CreateMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.createAll(inputs));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
 }
@@ -1,15 +1,42 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler({
+        IllegalArgumentException.class,
+        ConstraintViolationException.class,
+        MethodArgumentNotValidException.class,
+        MissingServletRequestParameterException.class,
+        HttpMessageNotReadableException.class
+    })
+    protected ResponseEntity<?> handleBadRequest(Exception ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /*
+     * A parameter or path variable that does not convert, such as minSalary=abc or a malformed UUID.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest()
+                .body(Response.error("Invalid value for " + ex.getName() + ": " + ex.getValue()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
@@ -0,0 +1,46 @@
+package com.reliaquest.server.fault;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Plans the faults of each request from a per-endpoint random stream derived from one seed.
+ *
+ * <p>Every endpoint draws from its own stream, so the n-th request to an endpoint gets the same faults on every run
+ * with the same seed, however requests to the other endpoints interleave with it. Concurrent requests to one endpoint
+ * take plans in arrival order.
+ */
+public class FaultInjector {
+
+    private final long seed;
+    private final Map<String, EndpointFaults> endpoints = new HashMap<>();
+
+    /**
+     * @param profiles fault profile by endpoint name; endpoints without one are left alone
+     */
+    public FaultInjector(long seed, Map<String, FaultProfile> profiles) {
+        this.seed = seed;
+        profiles.forEach((endpoint, profile) -> endpoints.put(
+                endpoint, new EndpointFaults(profile, new SplittableRandom(seed ^ endpoint.hashCode()))));
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @return the faults of the next request to {@code endpoint}, or {@code null} if it has no fault profile
+     */
+    public FaultPlan plan(String endpoint) {
+        final var faults = endpoints.get(endpoint);
+        if (faults == null) {
+            return null;
+        }
+        synchronized (faults) {
+            return faults.profile().draw(faults.random());
+        }
+    }
+
+    private record EndpointFaults(FaultProfile profile, SplittableRandom random) {}
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.fault;
+
+/**
+ * Faults decided for one request.
+ *
+ * @param delayNanos delay before the request is handled
+ * @param reset whether the connection is dropped instead of answering
+ * @param errorStatus status to answer with instead of handling the request, or 0 to handle it
+ * @param drip pacing of the response body of a handled request
+ */
+public record FaultPlan(long delayNanos, boolean reset, int errorStatus, FaultProfile.Drip drip) {}
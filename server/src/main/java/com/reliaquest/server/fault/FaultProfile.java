@@ -0,0 +1,65 @@
+package com.reliaquest.server.fault;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Faults injected into the requests of one endpoint. Unset values bind as no fault.
+ *
+ * @param latency delay added before the request is handled
+ * @param errorRate fraction of requests answered with {@code errorStatus} instead of being handled
+ * @param errorStatus 5xx status of injected errors, 503 when unset
+ * @param resetRate fraction of requests whose connection is dropped before the body is sent
+ * @param drip pacing of the response body
+ */
+public record FaultProfile(LatencyProfile latency, double errorRate, Integer errorStatus, double resetRate, Drip drip) {
+
+    public FaultProfile {
+        latency = latency != null ? latency : LatencyProfile.NONE;
+        errorStatus = errorStatus != null ? errorStatus : 503;
+        drip = drip != null ? drip : Drip.NONE;
+        if (errorRate < 0 || resetRate < 0 || errorRate + resetRate > 1) {
+            throw new IllegalArgumentException("Error and reset rates must be non-negative and add up to at most 1");
+        }
+        if (errorStatus < 500 || errorStatus > 599) {
+            throw new IllegalArgumentException("Error status must be a 5xx status");
+        }
+    }
+
+    /**
+     * Decides the faults of one request. Draws a fixed number of values from {@code random}, so a seeded generator
+     * yields the same sequence of plans for the same profile.
+     */
+    public FaultPlan draw(RandomGenerator random) {
+        final var delayNanos = latency.sampleNanos(random);
+        // One draw for the two failures keeps them mutually exclusive at their configured rates
+        final var failure = random.nextDouble();
+        if (failure < resetRate) {
+            return new FaultPlan(delayNanos, true, 0, Drip.NONE);
+        }
+        if (failure < resetRate + errorRate) {
+            return new FaultPlan(delayNanos, false, errorStatus, Drip.NONE);
+        }
+        return new FaultPlan(delayNanos, false, 0, drip);
+    }
+
+    /**
+     * Slow-drip body: the response is flushed every {@code chunkBytes} bytes, each followed by a pause of
+     * {@code interval}. A {@code chunkBytes} of 0 sends the body as the handler writes it.
+     */
+    public record Drip(int chunkBytes, Duration interval) {
+
+        public static final Drip NONE = new Drip(0, Duration.ZERO);
+
+        public Drip {
+            interval = interval != null ? interval : Duration.ZERO;
+            if (chunkBytes < 0 || interval.isNegative()) {
+                throw new IllegalArgumentException("Drip chunk size and interval must not be negative");
+            }
+        }
+
+        public boolean enabled() {
+            return chunkBytes > 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.fault;
+
+/**
+ * Shape of the delay added to a request, named as in {@code mock.faults.*.latency.distribution}.
+ */
+public enum LatencyDistribution {
+    /** No added delay. */
+    NONE,
+    /** Always {@code base}. */
+    FIXED,
+    /** Log-normal with median {@code base} and shape {@code sigma}; a long right tail for larger sigmas. */
+    LOGNORMAL,
+    /** {@code base} for most requests and {@code tail} for a {@code tail-rate} fraction, each spread by sigma. */
+    BIMODAL
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.fault;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Delay added to each request of an endpoint. Unset values bind as no delay.
+ *
+ * @param distribution shape of the delay
+ * @param base fixed delay, median of the log-normal, or the fast mode of the bimodal distribution
+ * @param sigma log-normal shape; for the bimodal distribution the spread of each mode, 0 for exact modes
+ * @param tail slow mode of the bimodal distribution
+ * @param tailRate fraction of requests in the slow mode
+ */
+public record LatencyProfile(
+        LatencyDistribution distribution, Duration base, double sigma, Duration tail, double tailRate) {
+
+    public static final LatencyProfile NONE = new LatencyProfile(null, null, 0, null, 0);
+
+    public LatencyProfile {
+        distribution = distribution != null ? distribution : LatencyDistribution.NONE;
+        base = base != null ? base : Duration.ZERO;
+        tail = tail != null ? tail : Duration.ZERO;
+        if (base.isNegative() || tail.isNegative()) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+        if (sigma < 0) {
+            throw new IllegalArgumentException("Latency sigma must not be negative");
+        }
+        if (tailRate < 0 || tailRate > 1) {
+            throw new IllegalArgumentException("Latency tail rate must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Draws a delay in nanoseconds. Always consumes the same two values from {@code random}, whatever the
+     * distribution, so the draws that follow do not depend on it.
+     */
+    long sampleNanos(RandomGenerator random) {
+        final var mode = random.nextDouble();
+        final var spread = random.nextGaussian();
+        return switch (distribution) {
+            case NONE -> 0;
+            case FIXED -> base.toNanos();
+            case LOGNORMAL -> spread(base, spread);
+            case BIMODAL -> spread(mode < tailRate ? tail : base, spread);
+        };
+    }
+
+    private long spread(Duration median, double gaussian) {
+        return sigma == 0 ? median.toNanos() : (long) (median.toNanos() * Math.exp(sigma * gaussian));
+    }
+}
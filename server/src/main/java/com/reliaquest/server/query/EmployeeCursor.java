@@ -0,0 +1,46 @@
+package com.reliaquest.server.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position after the last row of a page, serialized as an opaque URL-safe token. Insertion-order cursors hold
+ * the repository sequence of the last row; salary-order cursors hold its salary and id. Rows written or removed
+ * between pages therefore never shift a later page.
+ */
+record EmployeeCursor(SalarySort sort, long sequence, int salary, UUID id) {
+
+    static EmployeeCursor afterSequence(long sequence) {
+        return new EmployeeCursor(SalarySort.INSERTION, sequence, 0, null);
+    }
+
+    static EmployeeCursor afterSalary(SalarySort sort, int salary, UUID id) {
+        return new EmployeeCursor(sort, 0, salary, id);
+    }
+
+    String encode() {
+        final var raw = sort == SalarySort.INSERTION
+                ? sort.name() + ":" + sequence
+                : sort.name() + ":" + salary + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code token} is malformed or was issued for a different sort
+     */
+    static EmployeeCursor decode(String token, SalarySort expectedSort) {
+        try {
+            final var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            final var sort = SalarySort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort");
+            }
+            return sort == SalarySort.INSERTION
+                    ? afterSequence(Long.parseLong(parts[1]))
+                    : afterSalary(sort, Integer.parseInt(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.server.query;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Employee properties a client can project a query result to. The id is always returned and is not listed here.
+ */
+public enum EmployeeField {
+    NAME("employee_name", MockEmployee::getName),
+    SALARY("employee_salary", MockEmployee::getSalary),
+    AGE("employee_age", MockEmployee::getAge),
+    TITLE("employee_title", MockEmployee::getTitle),
+    EMAIL("employee_email", MockEmployee::getEmail);
+
+    @Getter
+    private final String jsonName;
+
+    private final Function<MockEmployee, Object> getter;
+
+    EmployeeField(String jsonName, Function<MockEmployee, Object> getter) {
+        this.jsonName = jsonName;
+        this.getter = getter;
+    }
+
+    public Object valueOf(@NonNull MockEmployee mockEmployee) {
+        return getter.apply(mockEmployee);
+    }
+
+    /**
+     * Parses a comma-separated field list; each field may be given as {@code salary} or as {@code employee_salary}.
+     *
+     * @throws IllegalArgumentException on an unknown field
+     */
+    public static Set<EmployeeField> parseAll(@NonNull String fields) {
+        final var parsed = EnumSet.noneOf(EmployeeField.class);
+        for (final var field : fields.split(",")) {
+            final var name = field.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty() || name.equals("id")) {
+                continue;
+            }
+            parsed.add(parse(name));
+        }
+        return parsed;
+    }
+
+    private static EmployeeField parse(String name) {
+        for (final var field : values()) {
+            if (field.jsonName.equals(name) || field.name().toLowerCase(Locale.ROOT).equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
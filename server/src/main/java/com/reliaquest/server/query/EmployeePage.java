@@ -0,0 +1,11 @@
+package com.reliaquest.server.query;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+
+/**
+ * One page of an {@link EmployeeQuery} result.
+ *
+ * @param nextCursor continues the query after this page, or {@code null} if this is the last page
+ */
+public record EmployeePage(List<MockEmployee> mockEmployees, String nextCursor) {}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.query;
+
+import java.util.Set;
+import lombok.Builder;
+
+/**
+ * Filter, order, page and projection of a roster read. Every part is optional; an empty query returns the whole roster
+ * in insertion order with all fields.
+ *
+ * @param nameContains case-insensitive name substring
+ * @param minSalary inclusive lower salary bound
+ * @param maxSalary inclusive upper salary bound
+ * @param limit largest number of rows to return; with more rows left, the page carries a cursor to the next one
+ * @param cursor where to continue a previous page from; only valid with the same sort
+ * @param fields fields to return besides the id, or {@code null} for all
+ */
+@Builder
+public record EmployeeQuery(
+        String nameContains,
+        Integer minSalary,
+        Integer maxSalary,
+        SalarySort sort,
+        Integer limit,
+        String cursor,
+        Set<EmployeeField> fields) {
+
+    public EmployeeQuery {
+        if (sort == null) {
+            sort = SalarySort.INSERTION;
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("Minimum salary must not exceed maximum salary");
+        }
+    }
+
+    public boolean isEmpty() {
+        return nameContains == null
+                && minSalary == null
+                && maxSalary == null
+                && sort == SalarySort.INSERTION
+                && limit == null
+                && cursor == null
+                && fields == null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.server.query;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+/**
+ * Evaluates an {@link EmployeeQuery} against the repository.
+ *
+ * <p>Insertion-order pages walk the repository's sequence index from the cursor and stop one row past the limit, so a
+ * page costs its own size plus the rows filtered out on the way. Salary-order pages filter a roster snapshot and keep
+ * only the best {@code limit + 1} rows in a bounded heap instead of sorting everything. Rows without a salary order as
+ * the lowest salary.
+ */
+public final class EmployeeQueryExecutor {
+
+    private EmployeeQueryExecutor() {}
+
+    public static EmployeePage execute(@NonNull MockEmployeeRepository repository, @NonNull EmployeeQuery query) {
+        final var filter = filter(query);
+        if (query.sort() == SalarySort.INSERTION) {
+            return insertionPage(repository, query, filter);
+        }
+        return salaryPage(repository, query, filter);
+    }
+
+    private static EmployeePage insertionPage(
+            MockEmployeeRepository repository, EmployeeQuery query, Predicate<MockEmployee> filter) {
+        if (query.limit() == null && query.cursor() == null) {
+            return new EmployeePage(repository.findAll().stream().filter(filter).toList(), null);
+        }
+        final long after = query.cursor() == null
+                ? 0
+                : EmployeeCursor.decode(query.cursor(), SalarySort.INSERTION).sequence();
+        final long limit = query.limit() == null ? Long.MAX_VALUE : query.limit();
+        final var rows = new ArrayList<MockEmployee>();
+        final var lastSequence = new long[1];
+        final var hasMore = new boolean[1];
+        repository.forEachAfter(after, (sequence, mockEmployee) -> {
+            if (!filter.test(mockEmployee)) {
+                return true;
+            }
+            if (rows.size() == limit) {
+                hasMore[0] = true;
+                return false;
+            }
+            rows.add(mockEmployee);
+            lastSequence[0] = sequence;
+            return true;
+        });
+        final var nextCursor = hasMore[0] ? EmployeeCursor.afterSequence(lastSequence[0]).encode() : null;
+        return new EmployeePage(List.copyOf(rows), nextCursor);
+    }
+
+    private static EmployeePage salaryPage(
+            MockEmployeeRepository repository, EmployeeQuery query, Predicate<MockEmployee> filter) {
+        final Comparator<MockEmployee> order = order(query.sort());
+        var candidates = repository.findAll().stream().filter(filter);
+        if (query.cursor() != null) {
+            final var cursor = EmployeeCursor.decode(query.cursor(), query.sort());
+            candidates = candidates.filter(mockEmployee -> compareToCursor(mockEmployee, cursor) > 0);
+        }
+        if (query.limit() == null) {
+            return new EmployeePage(candidates.sorted(order).toList(), null);
+        }
+
+        final int limit = query.limit();
+        final var best = new PriorityQueue<MockEmployee>(Math.min(limit, 1024) + 1, order.reversed());
+        candidates.forEach(mockEmployee -> {
+            best.offer(mockEmployee);
+            if (best.size() > limit + 1L) {
+                best.poll();
+            }
+        });
+        final var rows = new ArrayList<>(best);
+        rows.sort(order);
+        if (rows.size() <= limit) {
+            return new EmployeePage(List.copyOf(rows), null);
+        }
+        final var page = rows.subList(0, limit);
+        final var last = page.get(limit - 1);
+        final var nextCursor =
+                EmployeeCursor.afterSalary(query.sort(), salaryKey(last), last.getId()).encode();
+        return new EmployeePage(List.copyOf(page), nextCursor);
+    }
+
+    private static Predicate<MockEmployee> filter(EmployeeQuery query) {
+        Predicate<MockEmployee> filter = mockEmployee -> true;
+        if (query.nameContains() != null) {
+            final var needle = query.nameContains().toLowerCase();
+            filter = filter.and(mockEmployee -> mockEmployee.getName() != null
+                    && mockEmployee.getName().toLowerCase().contains(needle));
+        }
+        if (query.minSalary() != null) {
+            final int min = query.minSalary();
+            filter = filter.and(mockEmployee -> mockEmployee.getSalary() != null && mockEmployee.getSalary() >= min);
+        }
+        if (query.maxSalary() != null) {
+            final int max = query.maxSalary();
+            filter = filter.and(mockEmployee -> mockEmployee.getSalary() != null && mockEmployee.getSalary() <= max);
+        }
+        return filter;
+    }
+
+    private static Comparator<MockEmployee> order(SalarySort sort) {
+        final Comparator<MockEmployee> bySalary = Comparator.comparingInt(EmployeeQueryExecutor::salaryKey);
+        return (sort == SalarySort.SALARY_DESC ? bySalary.reversed() : bySalary)
+                .thenComparing(MockEmployee::getId);
+    }
+
+    private static int compareToCursor(MockEmployee mockEmployee, EmployeeCursor cursor) {
+        int bySalary = Integer.compare(salaryKey(mockEmployee), cursor.salary());
+        if (cursor.sort() == SalarySort.SALARY_DESC) {
+            bySalary = -bySalary;
+        }
+        return bySalary != 0 ? bySalary : mockEmployee.getId().compareTo(cursor.id());
+    }
+
+    private static int salaryKey(MockEmployee mockEmployee) {
+        return mockEmployee.getSalary() == null ? Integer.MIN_VALUE : mockEmployee.getSalary();
+    }
+}
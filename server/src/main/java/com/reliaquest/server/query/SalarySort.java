@@ -0,0 +1,25 @@
+package com.reliaquest.server.query;
+
+import java.util.Locale;
+import lombok.NonNull;
+
+/**
+ * Result order of an {@link EmployeeQuery}. Ties on salary are broken by id so the order, and any cursor into it, is
+ * total.
+ */
+public enum SalarySort {
+    INSERTION,
+    SALARY_ASC,
+    SALARY_DESC;
+
+    /**
+     * @throws IllegalArgumentException if {@code value} is not {@code salary_asc} or {@code salary_desc}
+     */
+    public static SalarySort parse(@NonNull String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "salary_asc" -> SALARY_ASC;
+            case "salary_desc" -> SALARY_DESC;
+            default -> throw new IllegalArgumentException("Unknown sort: " + value);
+        };
+    }
+}
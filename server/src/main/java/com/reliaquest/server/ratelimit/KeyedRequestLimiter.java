@@ -0,0 +1,54 @@
+package com.reliaquest.server.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * One {@link RequestLimiter} per client key, created on first use. Once more than {@code maxKeys} clients are tracked,
+ * limiters that are back in their initial state are dropped, which keeps memory bounded without letting any client
+ * reset its own limit.
+ *
+ * <p>Requests from known clients never scan the map. Sweeping happens only when a new client arrives, and at most once
+ * per {@code maxKeys} new clients, so its cost is amortised to O(1) per insertion even when most tracked clients are
+ * busy and survive the sweep.
+ */
+public final class KeyedRequestLimiter {
+
+    private final Supplier<RequestLimiter> factory;
+    private final int maxKeys;
+    private final ConcurrentMap<String, RequestLimiter> limiters = new ConcurrentHashMap<>();
+    private final AtomicInteger insertionsSinceSweep = new AtomicInteger();
+
+    public KeyedRequestLimiter(Supplier<RequestLimiter> factory, int maxKeys) {
+        this.factory = factory;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * @see RequestLimiter#tryAcquire(long)
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        var limiter = limiters.get(key);
+        if (limiter == null) {
+            sweepIfDue(nowNanos);
+            limiter = limiters.computeIfAbsent(key, ignored -> {
+                insertionsSinceSweep.incrementAndGet();
+                return factory.get();
+            });
+        }
+        return limiter.tryAcquire(nowNanos);
+    }
+
+    private void sweepIfDue(long nowNanos) {
+        final var pending = insertionsSinceSweep.get();
+        if (pending >= maxKeys && limiters.size() > maxKeys && insertionsSinceSweep.compareAndSet(pending, 0)) {
+            limiters.values().removeIf(limiter -> limiter.isIdle(nowNanos));
+        }
+    }
+
+    int trackedKeys() {
+        return limiters.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * How a limit of {@code maxRequests} per {@code window} is enforced, named as in {@code mock.request-limit.algorithm}.
+ */
+public enum RequestLimitAlgorithm {
+    /** A full burst of {@code maxRequests} up front, then one request every {@code window / maxRequests}. */
+    TOKEN_BUCKET,
+    /** At most {@code maxRequests} in any {@code window}, estimated from the current and previous fixed windows. */
+    SLIDING_WINDOW;
+
+    public RequestLimiter create(int maxRequests, Duration window) {
+        return switch (this) {
+            case TOKEN_BUCKET -> new TokenBucketLimiter(maxRequests, window);
+            case SLIDING_WINDOW -> new SlidingWindowLimiter(maxRequests, window);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.server.ratelimit;
+
+/**
+ * Admits or rejects requests against a limit of {@code maxRequests} per {@code window}. Implementations are lock-free
+ * and take the current time from the caller, so one clock read serves every limiter a request passes through and
+ * tests can drive time directly.
+ */
+public interface RequestLimiter {
+
+    /**
+     * Admits a request at {@code nowNanos} if the limit allows it, consuming part of the limit.
+     *
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return {@code 0} if admitted, otherwise how many nanoseconds until a request would be
+     */
+    long tryAcquire(long nowNanos);
+
+    /**
+     * @return whether the limiter is back in its initial state at {@code nowNanos}, so discarding it changes nothing
+     */
+    boolean isIdle(long nowNanos);
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter: requests are counted in fixed windows, and the count over the last {@code window} is
+ * estimated as the current window's count plus the previous window's count weighted by how much of it still overlaps.
+ * The counters live in one immutable {@link Window} swapped by compare-and-set.
+ */
+public final class SlidingWindowLimiter implements RequestLimiter {
+
+    private final int maxRequests;
+    private final long windowNanos;
+    private final AtomicReference<Window> state = new AtomicReference<>();
+
+    public SlidingWindowLimiter(int maxRequests, Duration window) {
+        if (maxRequests < 1 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Request limit and window must be positive");
+        }
+        this.maxRequests = maxRequests;
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = state.get();
+            final var window = current == null ? new Window(nowNanos, 0, 0) : current.advancedTo(nowNanos, windowNanos);
+            final var slack = maxRequests - 1 - window.count();
+            if (!admits(window, nowNanos, slack)) {
+                return waitNanos(window, nowNanos, slack);
+            }
+            final var next = new Window(window.start(), window.count() + 1, window.previousCount());
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long nowNanos) {
+        final var current = state.get();
+        return current == null || nowNanos - current.start() >= 2 * windowNanos;
+    }
+
+    /**
+     * Whether {@code previous * (1 - elapsed / window) + count + 1 <= maxRequests}, with {@code slack} being
+     * {@code maxRequests - 1 - count}.
+     */
+    private boolean admits(Window window, long nowNanos, int slack) {
+        if (slack < 0) {
+            return false;
+        }
+        final var remaining = windowNanos - (nowNanos - window.start());
+        return (double) window.previousCount() * remaining <= (double) slack * windowNanos;
+    }
+
+    /**
+     * Time until the previous window's weight has decayed enough to admit one more request.
+     */
+    private long waitNanos(Window window, long nowNanos, int slack) {
+        if (slack >= 0) {
+            final var fraction = 1 - (double) slack / window.previousCount();
+            return Math.max(1, window.start() + (long) Math.ceil(fraction * windowNanos) - nowNanos);
+        }
+        // The current window is full by itself: wait for it to become the previous one and decay
+        final var fraction = 1 - (double) (maxRequests - 1) / window.count();
+        return Math.max(1, window.start() + windowNanos + (long) Math.ceil(fraction * windowNanos) - nowNanos);
+    }
+
+    private record Window(long start, int count, int previousCount) {
+
+        Window advancedTo(long nowNanos, long windowNanos) {
+            final var windows = (nowNanos - start) / windowNanos;
+            if (windows <= 0) {
+                return this;
+            }
+            return new Window(start + windows * windowNanos, 0, windows == 1 ? count : 0);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket holding {@code maxRequests} tokens and refilled at {@code maxRequests} per {@code window}, kept as the
+ * generic cell rate algorithm: the only state is the theoretical arrival time (TAT) at which the bucket would be full
+ * again, so admitting a request is a single compare-and-set.
+ */
+public final class TokenBucketLimiter implements RequestLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucketLimiter(int maxRequests, Duration window) {
+        if (maxRequests < 1 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Request limit and window must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, window.toNanos() / maxRequests);
+        this.burstToleranceNanos = emissionIntervalNanos * (maxRequests - 1);
+        this.theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = theoreticalArrival.get();
+            final var arrival = current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current;
+            final var wait = arrival - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long nowNanos) {
+        final var current = theoreticalArrival.get();
+        return current == Long.MIN_VALUE || current - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,315 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Thread-safe in-memory store of {@link MockEmployee}s indexed for the lookups the mock API performs.
+ *
+ * <ul>
+ *   <li>{@code id -> employee} hash index for {@link #findById(UUID)}</li>
+ *   <li>case-folded {@code name -> employees} multimap, each bucket in insertion order, for name deletes</li>
+ *   <li>insertion sequence -> employee for ordered iteration in {@link #findAll()}</li>
+ * </ul>
+ *
+ * <p>Writers lock only the stripe owning the employee's case-folded name, so writes to different names proceed in
+ * parallel while a name's bucket is always updated atomically. Lookups never lock. {@link #findAll()} returns an
+ * immutable point-in-time snapshot: it is reused until the next write, rebuilt optimistically while no write is in
+ * progress, and only as a last resort built while briefly holding writers off.
+ *
+ * <p>Batch writes ({@link #saveAll(List)}, {@link #removeFirstByNames(List)}) take the exclusive side of the commit
+ * lock instead of stripes, so no other write interleaves with them and no snapshot ever shows part of a batch.
+ */
+public class MockEmployeeRepository {
+
+    private static final int STRIPES = 64;
+    private static final int OPTIMISTIC_SNAPSHOT_ATTEMPTS = 8;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<UUID, Entry> entriesById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, MockEmployee> entriesBySequence = new ConcurrentSkipListMap<>();
+    private final Map<String, ConcurrentSkipListMap<Long, MockEmployee>> entriesByName = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    /*
+     * Inverted read/write lock: writers share the read side with each other, snapshot builders that could not
+     * complete optimistically take the write side to hold all writers off.
+     */
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesCompleted = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    public MockEmployeeRepository() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public static MockEmployeeRepository of(@NonNull Collection<MockEmployee> mockEmployees) {
+        final var repository = new MockEmployeeRepository();
+        mockEmployees.forEach(repository::save);
+        return repository;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(entriesById.get(uuid)).map(Entry::mockEmployee);
+    }
+
+    /**
+     * @return the earliest inserted employee whose name equals {@code name} ignoring case
+     */
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var bucket = entriesByName.get(foldCase(name));
+        if (bucket == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(bucket.firstEntry()).map(Map.Entry::getValue);
+    }
+
+    /**
+     * @return an immutable point-in-time snapshot of all employees in insertion order
+     */
+    public List<MockEmployee> findAll() {
+        final var cached = snapshot;
+        final long completed = writesCompleted.get();
+        if (cached.version() == completed && writesStarted.get() == completed) {
+            return cached.mockEmployees();
+        }
+
+        for (int attempt = 0; attempt < OPTIMISTIC_SNAPSHOT_ATTEMPTS; attempt++) {
+            final long version = writesCompleted.get();
+            if (writesStarted.get() != version) {
+                Thread.onSpinWait();
+                continue;
+            }
+            final var mockEmployees = List.copyOf(entriesBySequence.values());
+            if (writesStarted.get() == version) {
+                return publish(version, mockEmployees);
+            }
+        }
+
+        commitLock.writeLock().lock();
+        try {
+            return publish(writesCompleted.get(), List.copyOf(entriesBySequence.values()));
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Passes employees with their insertion sequence to {@code visitor} in insertion order, starting after
+     * {@code afterSequence}, until it returns {@code false}. No employee is passed twice.
+     *
+     * <p>Sequences are assigned under name stripes, so an insert can hold a lower sequence than one already stored by
+     * another stripe. The walk therefore stops at the highest sequence whose inserts have all completed: a cursor at
+     * any sequence passed never skips a lower one stored later, and later inserts show up after the cursor. Removals
+     * made during the walk may or may not be seen.
+     */
+    public void forEachAfter(long afterSequence, @NonNull BiPredicate<Long, MockEmployee> visitor) {
+        final long completedSequence = completedSequence();
+        if (afterSequence >= completedSequence) {
+            return;
+        }
+        for (final var entry : entriesBySequence.subMap(afterSequence, false, completedSequence, true).entrySet()) {
+            if (!visitor.test(entry.getKey(), entry.getValue())) {
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return entriesById.size();
+    }
+
+    /**
+     * @throws IllegalStateException if an employee with the same id is already stored
+     */
+    public MockEmployee save(@NonNull MockEmployee mockEmployee) {
+        Objects.requireNonNull(mockEmployee.getId(), "Employee id must not be null");
+        return write(mockEmployee.getName(), () -> insert(mockEmployee));
+    }
+
+    /**
+     * Atomically saves all of {@code mockEmployees} in order, or none of them.
+     *
+     * @throws IllegalStateException if any id is already stored or repeated within the batch; nothing is saved
+     */
+    public List<MockEmployee> saveAll(@NonNull List<MockEmployee> mockEmployees) {
+        final var ids = new HashSet<UUID>(mockEmployees.size() * 4 / 3 + 1);
+        for (final var mockEmployee : mockEmployees) {
+            Objects.requireNonNull(mockEmployee.getId(), "Employee id must not be null");
+            if (!ids.add(mockEmployee.getId())) {
+                throw new IllegalStateException("Employee repeated in batch: " + mockEmployee.getId());
+            }
+        }
+        return writeExclusively(() -> {
+            for (final var mockEmployee : mockEmployees) {
+                if (entriesById.containsKey(mockEmployee.getId())) {
+                    throw new IllegalStateException("Employee already exists: " + mockEmployee.getId());
+                }
+            }
+            mockEmployees.forEach(this::insert);
+            return List.copyOf(mockEmployees);
+        });
+    }
+
+    /**
+     * Atomically removes the earliest inserted employee whose name equals {@code name} ignoring case.
+     *
+     * @return the removed employee, if any
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return write(name, () -> removeFirst(name));
+    }
+
+    /**
+     * Atomically applies {@link #removeFirstByName(String)} for each of {@code names} in order; a name listed twice
+     * removes two employees.
+     *
+     * @return the removed employee for each name, in the order of {@code names}
+     */
+    public List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        names.forEach(name -> Objects.requireNonNull(name, "Name must not be null"));
+        return writeExclusively(() -> {
+            final var removed = new ArrayList<Optional<MockEmployee>>(names.size());
+            for (final var name : names) {
+                removed.add(removeFirst(name));
+            }
+            return removed;
+        });
+    }
+
+    private MockEmployee insert(MockEmployee mockEmployee) {
+        final var entry = new Entry(sequence.incrementAndGet(), mockEmployee);
+        if (entriesById.putIfAbsent(mockEmployee.getId(), entry) != null) {
+            throw new IllegalStateException("Employee already exists: " + mockEmployee.getId());
+        }
+        entriesBySequence.put(entry.sequence(), mockEmployee);
+        if (mockEmployee.getName() != null) {
+            entriesByName
+                    .computeIfAbsent(foldCase(mockEmployee.getName()), ignored -> new ConcurrentSkipListMap<>())
+                    .put(entry.sequence(), mockEmployee);
+        }
+        return mockEmployee;
+    }
+
+    private Optional<MockEmployee> removeFirst(String name) {
+        final var bucket = entriesByName.get(foldCase(name));
+        final var first = bucket == null ? null : bucket.firstEntry();
+        if (first == null) {
+            return Optional.empty();
+        }
+        final var entry = entriesById.remove(first.getValue().getId());
+        entriesBySequence.remove(first.getKey());
+        bucket.remove(first.getKey());
+        if (bucket.isEmpty()) {
+            entriesByName.remove(foldCase(name));
+        }
+        return Optional.of(entry.mockEmployee());
+    }
+
+    /**
+     * Runs {@code mutation} with all other writers and snapshot builders held off. Counted as a single write, so an
+     * optimistic snapshot either sees all of it or none.
+     */
+    private <T> T writeExclusively(Supplier<T> mutation) {
+        commitLock.writeLock().lock();
+        try {
+            writesStarted.incrementAndGet();
+            try {
+                return mutation.get();
+            } finally {
+                writesCompleted.incrementAndGet();
+            }
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    private <T> T write(String name, Supplier<T> mutation) {
+        final var stripe = stripes[name == null ? 0 : spread(foldCase(name).hashCode()) & (STRIPES - 1)];
+        commitLock.readLock().lock();
+        try {
+            stripe.lock();
+            try {
+                writesStarted.incrementAndGet();
+                try {
+                    return mutation.get();
+                } finally {
+                    writesCompleted.incrementAndGet();
+                }
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return a sequence such that every insert up to it has completed, read while no write is in flight as an
+     *     optimistic snapshot would, or else while briefly holding writers off
+     */
+    private long completedSequence() {
+        for (int attempt = 0; attempt < OPTIMISTIC_SNAPSHOT_ATTEMPTS; attempt++) {
+            final long completed = writesCompleted.get();
+            final long assigned = sequence.get();
+            if (writesStarted.get() == completed) {
+                return assigned;
+            }
+            Thread.onSpinWait();
+        }
+        commitLock.writeLock().lock();
+        try {
+            return sequence.get();
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    private List<MockEmployee> publish(long version, List<MockEmployee> mockEmployees) {
+        if (version > snapshot.version()) {
+            snapshot = new Snapshot(version, mockEmployees);
+        }
+        return mockEmployees;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Folds {@code name} so that two names fold equally exactly when {@link String#equalsIgnoreCase(String)} holds,
+     * which compares code point by code point on upper case and then lower case. Folding by code point rather than by
+     * char keeps supplementary letters, such as Deseret, matching their other case.
+     */
+    static String foldCase(String name) {
+        final var folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); ) {
+            final int codePoint = name.codePointAt(i);
+            folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return folded.toString();
+    }
+
+    private record Entry(long sequence, MockEmployee mockEmployee) {}
+
+    private record Snapshot(long version, List<MockEmployee> mockEmployees) {}
+}
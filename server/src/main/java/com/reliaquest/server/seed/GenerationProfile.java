@@ -0,0 +1,37 @@
+package com.reliaquest.server.seed;
+
+import java.util.Locale;
+import lombok.NonNull;
+
+/**
+ * Everything that determines a generated roster. Two generators with equal profiles produce identical rosters.
+ *
+ * @param seed seed all random choices derive from
+ * @param size number of employees
+ * @param locale locale of the generated names, titles and user names
+ * @param salaryDistribution shape of the salaries
+ * @param minSalary lowest salary, inclusive
+ * @param maxSalary highest salary, exclusive
+ * @param nameCollisionRate probability that an employee reuses the name of an earlier employee
+ */
+public record GenerationProfile(
+        long seed,
+        int size,
+        @NonNull Locale locale,
+        @NonNull SalaryDistribution salaryDistribution,
+        int minSalary,
+        int maxSalary,
+        double nameCollisionRate) {
+
+    public GenerationProfile {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        if (minSalary <= 0 || maxSalary <= minSalary) {
+            throw new IllegalArgumentException("Salary range must be positive and non-empty");
+        }
+        if (nameCollisionRate < 0 || nameCollisionRate > 1) {
+            throw new IllegalArgumentException("Name collision rate must be between 0 and 1");
+        }
+    }
+}
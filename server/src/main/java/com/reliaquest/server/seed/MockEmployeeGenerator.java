@@ -0,0 +1,98 @@
+package com.reliaquest.server.seed;
+
+import static com.reliaquest.server.config.ServerConfiguration.EMAIL_TEMPLATE;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees in parallel from a {@link GenerationProfile}.
+ *
+ * <p>The roster is split into fixed-size chunks, each generated by its own {@link Faker} over a {@link Random} seeded
+ * from the profile seed and the chunk index. Every random choice, including ids, comes from that {@link Random} and
+ * chunks are concatenated in order, so the same profile yields the same roster no matter how many threads take part.
+ * Name collisions reuse names generated earlier in the same chunk.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 16_384;
+
+    private final GenerationProfile profile;
+
+    public List<MockEmployee> generate() {
+        final long started = System.nanoTime();
+        final int size = profile.size();
+        final int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var mockEmployees = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(chunk, Math.min(CHUNK_SIZE, size - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .toList();
+        log.info(
+                "Generated {} employees with seed {} in {} ms, fingerprint {}",
+                mockEmployees.size(),
+                profile.seed(),
+                (System.nanoTime() - started) / 1_000_000,
+                fingerprint(mockEmployees));
+        return mockEmployees;
+    }
+
+    /**
+     * Order-sensitive hash of a roster, logged so benchmark runs can confirm they used the same data.
+     */
+    public static String fingerprint(List<MockEmployee> mockEmployees) {
+        long hash = 1125899906842597L;
+        for (MockEmployee mockEmployee : mockEmployees) {
+            hash = 31 * hash + mockEmployee.hashCode();
+        }
+        return Long.toHexString(hash);
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        final var random = new Random(chunkSeed(chunk));
+        final var faker = new Faker(profile.locale(), random);
+        final var names = new ArrayList<String>(size);
+        final var mockEmployees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            final var id = randomUuid(random);
+            final boolean collides = random.nextDouble() < profile.nameCollisionRate() && !names.isEmpty();
+            final var name = collides
+                    ? names.get(random.nextInt(names.size()))
+                    : faker.name().fullName();
+            names.add(name);
+            mockEmployees.add(MockEmployee.builder()
+                    .id(id)
+                    .name(name)
+                    .salary(profile.salaryDistribution().sample(random, profile.minSalary(), profile.maxSalary()))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase(profile.locale())))
+                    .build());
+        }
+        return mockEmployees;
+    }
+
+    private long chunkSeed(int chunk) {
+        // SplitMix64 finalizer, so neighbouring chunks get unrelated streams
+        long z = profile.seed() + (chunk + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Random version 4 UUID drawn from {@code random} instead of the shared secure generator. */
+    static UUID randomUuid(Random random) {
+        final long mostSigBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        final long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,324 @@
+package com.reliaquest.server.seed;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads and writes pre-generated rosters so large servers can start without generating employees.
+ *
+ * <p>Two formats are supported, chosen by file extension:
+ * <ul>
+ *   <li>{@code .jsonl}: one employee per line, using the same field names as the API</li>
+ *   <li>{@code .bin}: a compact length-prefixed binary encoding</li>
+ * </ul>
+ * Files are read through memory-mapped windows of at most 1 GiB; JSON lines within a window are parsed in parallel.
+ */
+@Slf4j
+public final class MockEmployeeSeedFile {
+
+    private static final int BINARY_MAGIC = 0x4D454D50;
+    private static final int BINARY_VERSION = 1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long MAX_WINDOW = 1L << 30;
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private MockEmployeeSeedFile() {}
+
+    public static List<MockEmployee> read(@NonNull Path path) throws IOException {
+        final long started = System.nanoTime();
+        final var mockEmployees = isBinary(path) ? readBinary(path) : readJsonLines(path);
+        log.info(
+                "Loaded {} employees from {} in {} ms",
+                mockEmployees.size(),
+                path,
+                (System.nanoTime() - started) / 1_000_000);
+        return mockEmployees;
+    }
+
+    /**
+     * @throws IllegalArgumentException if an employee has no id, which neither format can represent; nothing is
+     *     written then
+     */
+    public static void write(@NonNull Path path, @NonNull List<MockEmployee> mockEmployees) throws IOException {
+        for (int i = 0; i < mockEmployees.size(); i++) {
+            if (mockEmployees.get(i).getId() == null) {
+                throw new IllegalArgumentException("Employee at index " + i + " has no id");
+            }
+        }
+        try (var out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            if (isBinary(path)) {
+                writeBinary(out, mockEmployees);
+            } else {
+                writeJsonLines(out, mockEmployees);
+            }
+        }
+        log.info("Wrote {} employees to {}", mockEmployees.size(), path);
+    }
+
+    private static boolean isBinary(Path path) {
+        return path.getFileName().toString().endsWith(".bin");
+    }
+
+    private static List<MockEmployee> readJsonLines(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final var mockEmployees = new ArrayList<MockEmployee>();
+            long position = 0;
+            while (position < size) {
+                final long windowSize = Math.min(MAX_WINDOW, size - position);
+                final var window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                int end = (int) windowSize;
+                if (position + windowSize < size) {
+                    end = lastNewline(window, end) + 1;
+                    if (end == 0) {
+                        throw new IOException("Line longer than " + MAX_WINDOW + " bytes in " + path);
+                    }
+                }
+                mockEmployees.addAll(parseLines(window, end));
+                position += end;
+            }
+            return mockEmployees;
+        }
+    }
+
+    private static List<MockEmployee> parseLines(ByteBuffer window, int end) {
+        int lines = 1;
+        for (int i = 0; i < end; i++) {
+            if (window.get(i) == '\n') {
+                lines++;
+            }
+        }
+        final var lineStarts = new int[lines + 1];
+        int line = 1;
+        for (int i = 0; i < end; i++) {
+            if (window.get(i) == '\n') {
+                lineStarts[line++] = i + 1;
+            }
+        }
+        lineStarts[lines] = end + 1;
+        return IntStream.range(0, lines)
+                .parallel()
+                .mapToObj(index -> parseLine(window, lineStarts[index], lineStarts[index + 1] - 1))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static MockEmployee parseLine(ByteBuffer window, int start, int end) {
+        int length = end - start;
+        if (length > 0 && window.get(start + length - 1) == '\r') {
+            length--;
+        }
+        if (length <= 0) {
+            return null;
+        }
+        final var line = new byte[length];
+        window.get(start, line);
+        try (var parser = JSON.createParser(line)) {
+            return readJson(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed employee line at byte " + start, e);
+        }
+    }
+
+    private static MockEmployee readJson(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an employee object");
+        }
+        final var builder = MockEmployee.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> builder.id(uuid(parser));
+                case "employee_name" -> builder.name(text(parser));
+                case "employee_salary" -> builder.salary(integer(parser));
+                case "employee_age" -> builder.age(integer(parser));
+                case "employee_title" -> builder.title(text(parser));
+                case "employee_email" -> builder.email(text(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        final var mockEmployee = builder.build();
+        if (mockEmployee.getId() == null) {
+            throw new IOException("Employee without an id");
+        }
+        return mockEmployee;
+    }
+
+    private static String text(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    private static UUID uuid(JsonParser parser) throws IOException {
+        final var text = text(parser);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(text);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed employee id: " + text, e);
+        }
+    }
+
+    private static Integer integer(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+    }
+
+    private static int lastNewline(ByteBuffer window, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void writeJsonLines(OutputStream out, List<MockEmployee> mockEmployees) throws IOException {
+        try (var generator = JSON.createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (MockEmployee mockEmployee : mockEmployees) {
+                generator.writeStartObject();
+                generator.writeStringField("id", mockEmployee.getId().toString());
+                generator.writeStringField("employee_name", mockEmployee.getName());
+                writeIntegerField(generator, "employee_salary", mockEmployee.getSalary());
+                writeIntegerField(generator, "employee_age", mockEmployee.getAge());
+                generator.writeStringField("employee_title", mockEmployee.getTitle());
+                generator.writeStringField("employee_email", mockEmployee.getEmail());
+                generator.writeEndObject();
+            }
+            generator.writeRaw('\n');
+        }
+    }
+
+    private static void writeIntegerField(JsonGenerator generator, String name, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeBinary(OutputStream out, List<MockEmployee> mockEmployees) throws IOException {
+        final var data = new DataOutputStream(out);
+        data.writeInt(BINARY_MAGIC);
+        data.writeInt(BINARY_VERSION);
+        data.writeInt(mockEmployees.size());
+        for (MockEmployee mockEmployee : mockEmployees) {
+            data.writeLong(mockEmployee.getId().getMostSignificantBits());
+            data.writeLong(mockEmployee.getId().getLeastSignificantBits());
+            data.writeInt(mockEmployee.getSalary() == null ? NULL_INT : mockEmployee.getSalary());
+            data.writeInt(mockEmployee.getAge() == null ? NULL_INT : mockEmployee.getAge());
+            writeString(data, mockEmployee.getName());
+            writeString(data, mockEmployee.getTitle());
+            writeString(data, mockEmployee.getEmail());
+        }
+        data.flush();
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static List<MockEmployee> readBinary(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var in = new MappedInput(channel);
+            if (in.readInt() != BINARY_MAGIC || in.readInt() != BINARY_VERSION) {
+                throw new IOException("Not a version " + BINARY_VERSION + " employee seed file: " + path);
+            }
+            final int count = in.readInt();
+            final var mockEmployees = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                final var id = new UUID(in.readLong(), in.readLong());
+                final int salary = in.readInt();
+                final int age = in.readInt();
+                mockEmployees.add(MockEmployee.builder()
+                        .id(id)
+                        .salary(salary == NULL_INT ? null : salary)
+                        .age(age == NULL_INT ? null : age)
+                        .name(in.readString())
+                        .title(in.readString())
+                        .email(in.readString())
+                        .build());
+            }
+            return mockEmployees;
+        }
+    }
+
+    /** Sequential reader over a file mapped one window at a time. */
+    private static final class MappedInput {
+        private final FileChannel channel;
+        private final long size;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        MappedInput(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(MAX_WINDOW, size));
+        }
+
+        int readInt() throws IOException {
+            ensure(Integer.BYTES);
+            return window.getInt();
+        }
+
+        long readLong() throws IOException {
+            ensure(Long.BYTES);
+            return window.getLong();
+        }
+
+        String readString() throws IOException {
+            final int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            ensure(length);
+            final var bytes = new byte[length];
+            window.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (window.remaining() >= bytes) {
+                return;
+            }
+            windowStart += window.position();
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(MAX_WINDOW, size - windowStart));
+            if (window.remaining() < bytes) {
+                throw new EOFException("Truncated employee seed file");
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.server.seed;
+
+import java.util.Random;
+
+/**
+ * Shape of generated salaries between a minimum and a maximum.
+ */
+public enum SalaryDistribution {
+    /** Every salary in range equally likely. */
+    UNIFORM {
+        @Override
+        int sample(Random random, int min, int max) {
+            return min + random.nextInt(max - min);
+        }
+    },
+    /** Bell curve centred in the range, three standard deviations to either bound. */
+    NORMAL {
+        @Override
+        int sample(Random random, int min, int max) {
+            final double mean = (min + (double) max) / 2;
+            final double deviation = (max - (double) min) / 6;
+            return clamp(mean + random.nextGaussian() * deviation, min, max);
+        }
+    },
+    /** Right-skewed: most salaries near the low end, a long tail of high earners. */
+    LOG_NORMAL {
+        @Override
+        int sample(Random random, int min, int max) {
+            final double sigma = Math.log((double) max / min) / 6;
+            final double mu = Math.log(min) + 2 * sigma;
+            return clamp(Math.exp(mu + random.nextGaussian() * sigma), min, max);
+        }
+    };
+
+    abstract int sample(Random random, int min, int max);
+
+    private static int clamp(double value, int min, int max) {
+        return (int) Math.max(min, Math.min(max - 1, Math.round(value)));
+    }
+}
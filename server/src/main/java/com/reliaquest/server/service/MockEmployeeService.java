@@ -4,11 +4,13 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.query.EmployeePage;
+import com.reliaquest.server.query.EmployeeQuery;
+import com.reliaquest.server.query.EmployeeQueryExecutor;
+import com.reliaquest.server.repository.MockEmployeeRepository;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +24,18 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeRepository mockEmployeeRepository;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeRepository.findAll();
+    }
+
+    public EmployeePage query(@NonNull EmployeeQuery query) {
+        return EmployeeQueryExecutor.execute(mockEmployeeRepository, query);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeRepository.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,18 +43,44 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeRepository.save(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates all employees under a single repository write, so the batch becomes visible at once.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream()
+                .map(input -> MockEmployee.from(
+                        ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()),
+                        input))
+                .toList();
+        final var saved = mockEmployeeRepository.saveAll(mockEmployees);
+        log.debug("Added {} employees in batch", saved.size());
+        return saved;
+    }
+
+    /**
+     * Deletes the first employee of each name under a single repository write.
+     *
+     * @return whether an employee was removed, per input
+     */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var removed = mockEmployeeRepository.removeFirstByNames(
+                inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+        log.debug(
+                "Removed {} of {} employees in batch",
+                removed.stream().filter(Optional::isPresent).count(),
+                inputs.size());
+        return removed.stream().map(Optional::isPresent).toList();
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = mockEmployeeRepository.removeFirstByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
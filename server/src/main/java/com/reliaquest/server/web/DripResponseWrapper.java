@@ -0,0 +1,107 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.fault.FaultProfile;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Sends the body written by the handler in chunks, flushing each one and pausing after it.
+ */
+class DripResponseWrapper extends HttpServletResponseWrapper {
+
+    private final FaultProfile.Drip drip;
+    private DripOutputStream outputStream;
+    private PrintWriter writer;
+
+    DripResponseWrapper(HttpServletResponse response, FaultProfile.Drip drip) {
+        super(response);
+        this.drip = drip;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new DripOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    private final class DripOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private int chunkWritten;
+
+        private DripOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (++chunkWritten == drip.chunkBytes()) {
+                endChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                final var count = Math.min(len, drip.chunkBytes() - chunkWritten);
+                delegate.write(b, off, count);
+                off += count;
+                len -= count;
+                chunkWritten += count;
+                if (chunkWritten == drip.chunkBytes()) {
+                    endChunk();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void endChunk() throws IOException {
+            chunkWritten = 0;
+            delegate.flush();
+            FaultInjectionFilter.pause(drip.interval().toNanos());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultPlan;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Injects the faults planned by a {@link FaultInjector} into the requests of each {@link MockEndpoint}: a delay before
+ * the request is handled, then either a dropped connection, a 5xx answer, or the handled response with a slow-drip
+ * body. Runs ahead of the request limit, so injected failures do not count against it.
+ *
+ * <p>The servlet API cannot send a TCP reset. A reset is emulated by committing a {@code Connection: close} response
+ * that announces a body and then ends after part of it, which clients report as a premature end of stream or a
+ * reset connection.
+ */
+@Slf4j
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final byte[] PARTIAL_BODY = "{\"data\":".getBytes(StandardCharsets.UTF_8);
+
+    private final FaultInjector injector;
+
+    public FaultInjectionFilter(FaultInjector injector) {
+        this.injector = injector;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var endpoint = MockEndpoint.resolve(
+                request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()));
+        final FaultPlan plan = endpoint != null ? injector.plan(endpoint.key()) : null;
+        if (plan == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        pause(plan.delayNanos());
+        if (plan.reset()) {
+            log.debug("Injected connection reset for {}", endpoint.key());
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            response.setContentLength(PARTIAL_BODY.length * 2);
+            response.getOutputStream().write(PARTIAL_BODY);
+            response.flushBuffer();
+            return;
+        }
+        if (plan.errorStatus() != 0) {
+            log.debug("Injected {} for {}", plan.errorStatus(), endpoint.key());
+            response.sendError(plan.errorStatus(), "Injected fault");
+            return;
+        }
+        if (plan.drip().enabled()) {
+            chain.doFilter(request, new DripResponseWrapper(response, plan.drip()));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    static void pause(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during injected delay");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.query.EmployeeField;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes a list of employees wrapped in a handled {@link Response} envelope.
+ *
+ * <p>In streaming mode the envelope is written token by token to the servlet output stream and each employee is
+ * serialized on its own, so the only buffers are the generator's and the container's, whatever the roster size.
+ * Otherwise the whole envelope is serialized up front, as Spring MVC would. Both produce the same bytes.
+ *
+ * <p>With a projection, each employee is written as its id plus the requested fields only.
+ */
+@Slf4j
+@Component
+public class MockEmployeeResponseWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+    private final ObjectWriter statusWriter;
+    private final boolean streaming;
+
+    public MockEmployeeResponseWriter(
+            ObjectMapper objectMapper, @Value("${mock.employees.streaming:true}") boolean streaming) {
+        this.objectMapper = objectMapper;
+        this.employeeWriter =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.statusWriter =
+                objectMapper.writerFor(Response.Status.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.streaming = streaming;
+    }
+
+    public void writeHandled(@NonNull List<MockEmployee> mockEmployees, @NonNull HttpServletResponse response)
+            throws IOException {
+        writeHandled(mockEmployees, null, response);
+    }
+
+    /**
+     * @param fields fields to write besides the id, or {@code null} for all
+     */
+    public void writeHandled(
+            @NonNull List<MockEmployee> mockEmployees, Set<EmployeeField> fields, @NonNull HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (!streaming) {
+            final var data = fields == null
+                    ? mockEmployees
+                    : mockEmployees.stream().map(mockEmployee -> project(mockEmployee, fields)).toList();
+            final var body = objectMapper.writeValueAsBytes(Response.handledWith(data));
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+
+        try (var generator = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeFieldName("data");
+            generator.writeStartArray();
+            for (MockEmployee mockEmployee : mockEmployees) {
+                if (fields == null) {
+                    employeeWriter.writeValue(generator, mockEmployee);
+                } else {
+                    writeProjected(generator, mockEmployee, fields);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeFieldName("status");
+            statusWriter.writeValue(generator, Response.Status.HANDLED);
+            generator.writeEndObject();
+        }
+        log.debug("Streamed {} employees", mockEmployees.size());
+    }
+
+    private static void writeProjected(JsonGenerator generator, MockEmployee mockEmployee, Set<EmployeeField> fields)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectField("id", mockEmployee.getId());
+        for (EmployeeField field : fields) {
+            generator.writeObjectField(field.getJsonName(), field.valueOf(mockEmployee));
+        }
+        generator.writeEndObject();
+    }
+
+    private static Map<String, Object> project(MockEmployee mockEmployee, Set<EmployeeField> fields) {
+        final var projected = new LinkedHashMap<String, Object>();
+        projected.put("id", mockEmployee.getId());
+        for (EmployeeField field : fields) {
+            projected.put(field.getJsonName(), field.valueOf(mockEmployee));
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.server.web;
+
+import java.util.Arrays;
+
+/**
+ * The endpoints of {@code MockEmployeeController}, named as in {@code mock.faults.endpoints.<name>}.
+ */
+public enum MockEndpoint {
+    LIST("list"),
+    GET_BY_ID("get-by-id"),
+    CREATE("create"),
+    DELETE("delete"),
+    BATCH_CREATE("batch-create"),
+    BATCH_DELETE("batch-delete");
+
+    private static final String BASE_PATH = "/api/v1/employee";
+    private static final String BATCH_PATH = BASE_PATH + "/batch";
+
+    private final String key;
+
+    MockEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static MockEndpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown mock endpoint: " + key));
+    }
+
+    /**
+     * @param path request path without the context path
+     * @return the endpoint serving the request, or {@code null} for any other request
+     */
+    public static MockEndpoint resolve(String method, String path) {
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (path.equals(BASE_PATH)) {
+            return switch (method) {
+                case "GET" -> LIST;
+                case "POST" -> CREATE;
+                case "DELETE" -> DELETE;
+                default -> null;
+            };
+        }
+        if (path.equals(BATCH_PATH)) {
+            return switch (method) {
+                case "POST" -> BATCH_CREATE;
+                case "DELETE" -> BATCH_DELETE;
+                default -> null;
+            };
+        }
+        if (path.startsWith(BASE_PATH + "/") && path.indexOf('/', BASE_PATH.length() + 1) < 0) {
+            return method.equals("GET") ? GET_BY_ID : null;
+        }
+        return null;
+    }
+}
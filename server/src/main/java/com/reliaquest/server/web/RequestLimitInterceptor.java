@@ -0,0 +1,65 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.ratelimit.KeyedRequestLimiter;
+import com.reliaquest.server.ratelimit.RequestLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers 429 with a {@code Retry-After} header, in whole seconds, for requests over the global limit or over the
+ * limit of their client. Clients are told apart by {@code clientKeyHeader} when they send it, otherwise by remote
+ * address. A request rejected by its client limit does not count against the global one.
+ */
+@Slf4j
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    private final RequestLimiter globalLimiter;
+    private final KeyedRequestLimiter clientLimiter;
+    private final String clientKeyHeader;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param globalLimiter limit across all clients, or {@code null} for none
+     * @param clientLimiter limit per client, or {@code null} for none
+     */
+    public RequestLimitInterceptor(
+            RequestLimiter globalLimiter,
+            KeyedRequestLimiter clientLimiter,
+            String clientKeyHeader,
+            LongSupplier nanoClock) {
+        this.globalLimiter = globalLimiter;
+        this.clientLimiter = clientLimiter;
+        this.clientKeyHeader = clientKeyHeader;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var now = nanoClock.getAsLong();
+        var waitNanos = clientLimiter != null ? clientLimiter.tryAcquire(clientKey(request), now) : 0;
+        if (waitNanos == 0 && globalLimiter != null) {
+            waitNanos = globalLimiter.tryAcquire(now);
+        }
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        // Rounded up, so a client honoring the header is never early
+        final var retryAfterSeconds = Math.max(1, Math.ceilDiv(waitNanos, TimeUnit.SECONDS.toNanos(1)));
+        log.debug("Request limit exceeded for {}, retry after {}s", request.getRequestURI(), retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return false;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        final var key = clientKeyHeader != null ? request.getHeader(clientKeyHeader) : null;
+        return key != null && !key.isBlank() ? key : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,227 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeResponseWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(
+        controllers = MockEmployeeController.class,
+        properties = {"mock.request-limit.enabled=false", "mock.employees.max=25", "mock.employees.seed=42"})
+@Import({ServerConfiguration.class, MockEmployeeService.class, MockEmployeeResponseWriter.class})
+class MockEmployeeControllerTest {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+    private static final String BATCH = EMPLOYEES + "/batch";
+    private static final String HANDLED_STATUS = "Successfully processed request.";
+    private static final String ERROR_STATUS = "Failed to process request.";
+    private static final Map<String, Object> VALID_INPUT =
+            Map.of("name", "Jane Roe", "salary", 90_000, "age", 30, "title", "Engineer");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void getEmployees_NonNumericSalary_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get(EMPLOYEES).param("minSalary", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.error").value("Invalid value for minSalary: abc"));
+    }
+
+    @Test
+    void getEmployees_NonNumericLimit_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get(EMPLOYEES).param("limit", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid value for limit: abc"));
+    }
+
+    @Test
+    void getEmployees_LimitAboveMaxPageSize_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get(EMPLOYEES).param("limit", "10001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS));
+    }
+
+    @Test
+    void getEmployees_UnknownSort_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get(EMPLOYEES).param("sort", "name_asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown sort: name_asc"));
+    }
+
+    @Test
+    void getEmployee_MalformedId_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get(EMPLOYEES + "/not-a-uuid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid value for id: not-a-uuid"));
+    }
+
+    @Test
+    void getEmployees_FollowingNextCursor_PagesThroughWholeRosterBySalary() throws Exception {
+        // Arrange
+        final var rosterIds = ids(data(mockMvc.perform(get(EMPLOYEES)).andReturn()));
+        final var salaries = new ArrayList<Integer>();
+        final var ids = new ArrayList<String>();
+        String cursor = null;
+        var pages = 0;
+
+        // Act
+        do {
+            final var request = get(EMPLOYEES).param("sort", "salary_desc").param("limit", "10");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            final var result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            final var page = data(result);
+            ids.addAll(ids(page));
+            page.forEach(employee -> salaries.add(employee.get("employee_salary").asInt()));
+            cursor = result.getResponse().getHeader(MockEmployeeController.NEXT_CURSOR_HEADER);
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertThat(pages).isEqualTo((rosterIds.size() + 9) / 10);
+        assertThat(ids).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(rosterIds);
+        assertThat(salaries).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void createEmployees_ValidBatch_ReturnsCreatedEmployeesInOrder() throws Exception {
+        // Arrange
+        final var before = rosterSize();
+        final var second = Map.<String, Object>of("name", "John Roe", "salary", 80_000, "age", 40, "title", "Manager");
+        final var body = json(List.of(VALID_INPUT, second));
+
+        // Act / Assert
+        mockMvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(HANDLED_STATUS))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").isNotEmpty())
+                .andExpect(jsonPath("$.data[0].employee_name").value("Jane Roe"))
+                .andExpect(jsonPath("$.data[0].employee_salary").value(90_000))
+                .andExpect(jsonPath("$.data[0].employee_email").isNotEmpty())
+                .andExpect(jsonPath("$.data[1].employee_name").value("John Roe"));
+        assertThat(rosterSize()).isEqualTo(before + 2);
+    }
+
+    @Test
+    void createEmployees_EmptyBatch_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS));
+    }
+
+    @Test
+    void createEmployees_AboveMaxBatchSize_RejectsWithoutSaving() throws Exception {
+        // Arrange
+        final var before = rosterSize();
+        final var body = json(Collections.nCopies(10_001, VALID_INPUT));
+
+        // Act / Assert
+        mockMvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS));
+        assertThat(rosterSize()).isEqualTo(before);
+    }
+
+    @Test
+    void createEmployees_InvalidItem_RejectsWholeBatch() throws Exception {
+        // Arrange
+        final var before = rosterSize();
+        final var underage = Map.<String, Object>of("name", "John Roe", "salary", 80_000, "age", 12, "title", "Intern");
+        final var body = json(List.of(VALID_INPUT, underage));
+
+        // Act / Assert
+        mockMvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.error").isNotEmpty());
+        assertThat(rosterSize()).isEqualTo(before);
+    }
+
+    @Test
+    void deleteEmployees_KnownAndUnknownNames_ReportsRemovalPerName() throws Exception {
+        // Arrange
+        final var roster = data(mockMvc.perform(get(EMPLOYEES)).andReturn());
+        final var name = roster.get(0).get("employee_name").asText();
+        final var body = json(List.of(Map.of("name", name), Map.of("name", "Nobody Here")));
+
+        // Act / Assert
+        mockMvc.perform(delete(BATCH).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(HANDLED_STATUS))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0]").value(true))
+                .andExpect(jsonPath("$.data[1]").value(false));
+        assertThat(rosterSize()).isEqualTo(roster.size() - 1);
+    }
+
+    @Test
+    void deleteEmployees_BlankName_RejectsWithBadRequest() throws Exception {
+        // Arrange
+        final var before = rosterSize();
+
+        // Act / Assert
+        mockMvc.perform(delete(BATCH).contentType(MediaType.APPLICATION_JSON).content("[{\"name\":\" \"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS));
+        assertThat(rosterSize()).isEqualTo(before);
+    }
+
+    @Test
+    void deleteEmployees_EmptyBatch_RejectsWithBadRequest() throws Exception {
+        // Act / Assert
+        mockMvc.perform(delete(BATCH).contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS));
+    }
+
+    private int rosterSize() throws Exception {
+        return data(mockMvc.perform(get(EMPLOYEES)).andReturn()).size();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private JsonNode data(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray()).get("data");
+    }
+
+    private static List<String> ids(JsonNode data) {
+        final var ids = new ArrayList<String>();
+        data.forEach(employee -> ids.add(employee.get("id").asText()));
+        return ids;
+    }
+}
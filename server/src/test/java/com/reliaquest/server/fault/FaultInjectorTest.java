@@ -0,0 +1,91 @@
+package com.reliaquest.server.fault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectorTest {
+
+    private static final FaultProfile PROFILE = new FaultProfile(
+            new LatencyProfile(LatencyDistribution.LOGNORMAL, Duration.ofMillis(20), 0.5, null, 0),
+            0.2,
+            null,
+            0.1,
+            new FaultProfile.Drip(64, Duration.ofMillis(5)));
+
+    @Test
+    void plan_SameSeed_RepeatsEachEndpointSequenceWhateverTheInterleaving() {
+        // Arrange
+        final var profiles = Map.of("list", PROFILE, "get-by-id", PROFILE);
+        final var first = new FaultInjector(42, profiles);
+        final var second = new FaultInjector(42, profiles);
+
+        // Act
+        final var firstPlans = new ArrayList<FaultPlan>();
+        for (int i = 0; i < 50; i++) {
+            firstPlans.add(first.plan("list"));
+        }
+        final var secondPlans = new ArrayList<FaultPlan>();
+        for (int i = 0; i < 50; i++) {
+            second.plan("get-by-id");
+            secondPlans.add(second.plan("list"));
+        }
+
+        // Assert
+        assertThat(secondPlans).isEqualTo(firstPlans);
+        assertThat(new FaultInjector(43, profiles).plan("list")).isNotEqualTo(firstPlans.get(0));
+        assertThat(first.plan("delete")).isNull();
+    }
+
+    @Test
+    void draw_ManyRequests_MatchesConfiguredRates() {
+        // Arrange
+        final var random = new SplittableRandom(7);
+        final var plans = new ArrayList<FaultPlan>();
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            plans.add(PROFILE.draw(random));
+        }
+
+        // Assert
+        assertThat(fraction(plans.stream().filter(FaultPlan::reset).count(), plans)).isCloseTo(0.1, within(0.01));
+        assertThat(fraction(plans.stream().filter(plan -> plan.errorStatus() == 503).count(), plans))
+                .isCloseTo(0.2, within(0.01));
+        assertThat(plans.stream().filter(plan -> plan.drip().enabled()).count())
+                .isEqualTo(plans.stream()
+                        .filter(plan -> !plan.reset() && plan.errorStatus() == 0)
+                        .count());
+        final var delays = plans.stream().mapToLong(FaultPlan::delayNanos).sorted().toArray();
+        assertThat(Duration.ofNanos(delays[delays.length / 2]).toMillis()).isBetween(19L, 21L);
+    }
+
+    @Test
+    void sampleNanos_Bimodal_SplitsBetweenExactModes() {
+        // Arrange
+        final var latency =
+                new LatencyProfile(LatencyDistribution.BIMODAL, Duration.ofMillis(10), 0, Duration.ofSeconds(1), 0.05);
+        final var random = new SplittableRandom(11);
+        final var delays = new ArrayList<Long>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            delays.add(latency.sampleNanos(random));
+        }
+
+        // Assert
+        assertThat(delays).containsOnly(Duration.ofMillis(10).toNanos(), Duration.ofSeconds(1).toNanos());
+        assertThat(fraction(delays.stream().filter(delay -> delay == Duration.ofSeconds(1).toNanos()).count(), delays))
+                .isCloseTo(0.05, within(0.01));
+    }
+
+    private static double fraction(long count, List<?> all) {
+        return (double) count / all.size();
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.server.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryExecutorTest {
+
+    private MockEmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = MockEmployeeRepository.of(List.of(
+                employee("Tiger Nixon", 320_800),
+                employee("Garrett Winters", 170_750),
+                employee("Ashton Cox", 86_000),
+                employee("Cedric Kelly", 433_060),
+                employee("Airi Satou", 162_700),
+                employee("Brielle Williamson", 372_000),
+                employee("Herrod Chandler", 137_500)));
+    }
+
+    @Test
+    void execute_NameAndSalaryRange_FiltersInInsertionOrder() {
+        // Arrange
+        final var query = EmployeeQuery.builder()
+                .nameContains("I")
+                .minSalary(150_000)
+                .maxSalary(400_000)
+                .build();
+
+        // Act
+        final var page = EmployeeQueryExecutor.execute(repository, query);
+
+        // Assert
+        assertThat(page.mockEmployees())
+                .extracting(MockEmployee::getName)
+                .containsExactly("Tiger Nixon", "Garrett Winters", "Airi Satou", "Brielle Williamson");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void execute_SalaryDescWithLimit_ReturnsTopRows() {
+        // Arrange
+        final var query =
+                EmployeeQuery.builder().sort(SalarySort.SALARY_DESC).limit(3).build();
+
+        // Act
+        final var page = EmployeeQueryExecutor.execute(repository, query);
+
+        // Assert
+        assertThat(page.mockEmployees())
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(433_060, 372_000, 320_800);
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void execute_InsertionPages_CoverRosterOnceDespiteWritesBetweenPages() {
+        // Arrange
+        final var seen = new ArrayList<String>();
+        String cursor = null;
+
+        // Act
+        do {
+            final var page = EmployeeQueryExecutor.execute(
+                    repository, EmployeeQuery.builder().limit(2).cursor(cursor).build());
+            page.mockEmployees().forEach(mockEmployee -> seen.add(mockEmployee.getName()));
+            cursor = page.nextCursor();
+            if (seen.size() == 2) {
+                // Removing an already returned row must not shift later pages
+                repository.removeFirstByName("Tiger Nixon");
+            }
+        } while (cursor != null);
+
+        // Assert
+        assertThat(seen)
+                .containsExactly(
+                        "Tiger Nixon",
+                        "Garrett Winters",
+                        "Ashton Cox",
+                        "Cedric Kelly",
+                        "Airi Satou",
+                        "Brielle Williamson",
+                        "Herrod Chandler");
+    }
+
+    @Test
+    void execute_SalaryPages_MatchFullSort() {
+        // Arrange
+        repository.save(employee("Tied Salary", 170_750));
+        final var expected = repository.findAll().stream()
+                .sorted(Comparator.comparingInt(MockEmployee::getSalary).thenComparing(MockEmployee::getId))
+                .map(MockEmployee::getId)
+                .toList();
+        final var seen = new ArrayList<UUID>();
+        String cursor = null;
+
+        // Act
+        do {
+            final var page = EmployeeQueryExecutor.execute(
+                    repository,
+                    EmployeeQuery.builder()
+                            .sort(SalarySort.SALARY_ASC)
+                            .limit(3)
+                            .cursor(cursor)
+                            .build());
+            page.mockEmployees().forEach(mockEmployee -> seen.add(mockEmployee.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertThat(seen).isEqualTo(expected);
+    }
+
+    @Test
+    void execute_CursorFromOtherSort_IsRejected() {
+        // Arrange
+        final var cursor = EmployeeQueryExecutor.execute(
+                        repository, EmployeeQuery.builder().limit(1).build())
+                .nextCursor();
+        final var query = EmployeeQuery.builder()
+                .sort(SalarySort.SALARY_DESC)
+                .limit(1)
+                .cursor(cursor)
+                .build();
+
+        // Act / Assert
+        assertThatThrownBy(() -> EmployeeQueryExecutor.execute(repository, query))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RequestLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 1_000 * SECOND;
+
+    @Test
+    void tokenBucket_AfterBurst_AdmitsOneRequestPerInterval() {
+        // Arrange
+        final var limiter = new TokenBucketLimiter(5, Duration.ofSeconds(5));
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(START)).isZero();
+        }
+
+        // Act
+        final var wait = limiter.tryAcquire(START);
+        final var afterInterval = limiter.tryAcquire(START + SECOND);
+        final var tooSoon = limiter.tryAcquire(START + SECOND);
+
+        // Assert
+        assertThat(wait).isEqualTo(SECOND);
+        assertThat(afterInterval).isZero();
+        assertThat(tooSoon).isEqualTo(SECOND);
+        assertThat(limiter.isIdle(START + 6 * SECOND)).isTrue();
+    }
+
+    @Test
+    void slidingWindow_PreviousWindowDecays_AdmitsInProportion() {
+        // Arrange
+        final var limiter = new SlidingWindowLimiter(10, Duration.ofSeconds(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(START)).isZero();
+        }
+
+        // Act
+        final var full = limiter.tryAcquire(START + 5 * SECOND);
+        // A quarter into the next window, 7.5 of the previous ten still count, leaving room for two more
+        final var quarterIn = START + 12_500_000_000L;
+        final var first = limiter.tryAcquire(quarterIn);
+        final var second = limiter.tryAcquire(quarterIn);
+        final var third = limiter.tryAcquire(quarterIn);
+
+        // Assert
+        assertThat(full).isEqualTo(5 * SECOND + SECOND);
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isBetween(SECOND / 2, SECOND / 2 + 10);
+        assertThat(limiter.tryAcquire(quarterIn + third)).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RequestLimitAlgorithm.class)
+    void tryAcquire_ConcurrentCallers_AdmitExactlyTheLimit(RequestLimitAlgorithm algorithm) throws Exception {
+        // Arrange
+        final var limiter = algorithm.create(100, Duration.ofHours(1));
+        final var start = new CountDownLatch(1);
+        final var admitted = new ArrayList<Future<Integer>>();
+
+        // Act
+        try (final var executor = Executors.newFixedThreadPool(16)) {
+            for (int t = 0; t < 16; t++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < 50; i++) {
+                        if (limiter.tryAcquire(START) == 0) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+        }
+
+        // Assert
+        int total = 0;
+        for (Future<Integer> future : admitted) {
+            total += future.get();
+        }
+        assertThat(total).isEqualTo(100);
+    }
+
+    @Test
+    void keyed_ClientsOverTheirLimit_DoNotAffectOthers() {
+        // Arrange
+        final var limiter = new KeyedRequestLimiter(() -> new TokenBucketLimiter(1, Duration.ofSeconds(1)), 2);
+
+        // Act
+        final var first = limiter.tryAcquire("a", START);
+        final var repeated = limiter.tryAcquire("a", START);
+        final var other = limiter.tryAcquire("b", START);
+
+        // Assert
+        assertThat(first).isZero();
+        assertThat(repeated).isPositive();
+        assertThat(other).isZero();
+    }
+
+    @Test
+    void keyed_OverMaxKeys_DropsOnlyIdleLimiters() {
+        // Arrange
+        final var limiter = new KeyedRequestLimiter(() -> new TokenBucketLimiter(1, Duration.ofSeconds(10)), 2);
+        limiter.tryAcquire("a", START);
+        limiter.tryAcquire("b", START);
+        limiter.tryAcquire("c", START + 20 * SECOND);
+
+        // Act
+        limiter.tryAcquire("d", START + 25 * SECOND);
+
+        // Assert
+        assertThat(limiter.trackedKeys()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("c", START + 25 * SECOND)).isPositive();
+    }
+
+    @Test
+    void keyed_ManyBusyClients_SweepsOncePerMaxKeysNewClients() {
+        // Arrange
+        final var idleChecks = new AtomicInteger();
+        final var limiter = new KeyedRequestLimiter(
+                () -> new CountingLimiter(new TokenBucketLimiter(1, Duration.ofHours(1)), idleChecks), 10);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("client-" + i, START);
+        }
+        final var checksAfterInserts = idleChecks.get();
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("client-" + i, START + SECOND);
+        }
+
+        // Assert
+        assertThat(limiter.trackedKeys()).isEqualTo(1_000);
+        // One sweep per ten new clients, each over at most the keys tracked so far
+        assertThat(checksAfterInserts).isLessThan(1_000 * 1_000 / 10);
+        assertThat(idleChecks.get()).isEqualTo(checksAfterInserts);
+    }
+
+    /** Delegating limiter counting {@link RequestLimiter#isIdle(long)} calls. */
+    private record CountingLimiter(RequestLimiter delegate, AtomicInteger idleChecks) implements RequestLimiter {
+
+        @Override
+        public long tryAcquire(long nowNanos) {
+            return delegate.tryAcquire(nowNanos);
+        }
+
+        @Override
+        public boolean isIdle(long nowNanos) {
+            idleChecks.incrementAndGet();
+            return delegate.isIdle(nowNanos);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.reliaquest.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRepositoryConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final int SEEDED = 1_000;
+    private static final int DISTINCT_NAMES = 50;
+    private static final int WRITERS = 60;
+    private static final int SAVES_PER_WRITER = 1_000;
+
+    @Test
+    void parallelCreatesAndDeletes_LoseNoUpdates() throws Exception {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        for (int i = 0; i < SEEDED; i++) {
+            repository.save(employee("Seed " + (i % DISTINCT_NAMES)));
+        }
+        final var created = new AtomicInteger();
+        final var removedIds = ConcurrentHashMap.<UUID>newKeySet();
+        final var duplicateRemovals = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    final var name = (i % 2 == 0 ? "seed " : "Worker ") + ((thread + i) % DISTINCT_NAMES);
+                    if (i % 3 == 0) {
+                        repository
+                                .removeFirstByName(name)
+                                .ifPresent(removed -> {
+                                    if (!removedIds.add(removed.getId())) {
+                                        duplicateRemovals.incrementAndGet();
+                                    }
+                                });
+                    } else {
+                        repository.save(employee(name));
+                        created.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        final int expectedSize = SEEDED + created.get() - removedIds.size();
+        assertThat(duplicateRemovals.get()).isZero();
+        assertThat(repository.size()).isEqualTo(expectedSize);
+        final var all = repository.findAll();
+        assertThat(all).hasSize(expectedSize);
+        assertThat(all).extracting(MockEmployee::getId).doesNotContainAnyElementsOf(removedIds);
+        assertThat(new HashSet<>(all)).hasSize(expectedSize);
+    }
+
+    @Test
+    void findAll_DuringConcurrentWrites_ReturnsConsistentSnapshots() throws Exception {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        final var running = new AtomicBoolean(true);
+        final var inconsistent = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act: each writer saves its employees in order, so a point-in-time view holds a gap-free prefix of them
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < WRITERS; t++) {
+            final int thread = t;
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < SAVES_PER_WRITER; i++) {
+                    repository.save(employee(thread + "-" + i));
+                }
+                return null;
+            }));
+        }
+        final List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < THREADS - WRITERS; r++) {
+            readers.add(executor.submit(() -> {
+                while (running.get()) {
+                    final var nextExpected = new int[WRITERS];
+                    for (MockEmployee mockEmployee : repository.findAll()) {
+                        final var parts = mockEmployee.getName().split("-");
+                        final int thread = Integer.parseInt(parts[0]);
+                        if (Integer.parseInt(parts[1]) != nextExpected[thread]++) {
+                            inconsistent.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(inconsistent.get()).isZero();
+        assertThat(repository.findAll()).hasSize(WRITERS * SAVES_PER_WRITER);
+    }
+
+    @Test
+    void findAll_DuringConcurrentBatchWrites_NeverSeesPartialBatch() throws Exception {
+        // Arrange
+        final int batches = 200;
+        final int batchSize = 50;
+        final var repository = new MockEmployeeRepository();
+        final var running = new AtomicBoolean(true);
+        final var partial = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act: batches are created whole and deleted whole, so every snapshot holds whole batches only
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < WRITERS; t++) {
+            final int thread = t;
+            writers.add(executor.submit(() -> {
+                for (int b = 0; b < batches / WRITERS + 1; b++) {
+                    final var name = "Batch " + thread + "-" + b;
+                    final var batch = new ArrayList<MockEmployee>();
+                    for (int i = 0; i < batchSize; i++) {
+                        batch.add(employee(name));
+                    }
+                    repository.saveAll(batch);
+                    if (b % 2 == 1) {
+                        repository.removeFirstByNames(Collections.nCopies(batchSize, name));
+                    }
+                }
+                return null;
+            }));
+        }
+        final List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < THREADS - WRITERS; r++) {
+            readers.add(executor.submit(() -> {
+                while (running.get()) {
+                    final var counts = new HashMap<String, Integer>();
+                    repository.findAll().forEach(mockEmployee -> counts.merge(mockEmployee.getName(), 1, Integer::sum));
+                    if (counts.values().stream().anyMatch(count -> count != batchSize)) {
+                        partial.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(partial.get()).isZero();
+        assertThat(repository.size() % batchSize).isZero();
+    }
+
+    @Test
+    void forEachAfter_PagingDuringConcurrentSaves_SkipsNoEmployee() throws Exception {
+        // Arrange
+        final int pageSize = 10;
+        final var repository = new MockEmployeeRepository();
+        final var seen = new HashSet<UUID>();
+        final var duplicates = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+
+        // Act: writers on different stripes race for sequences while a reader pages from cursor to cursor
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < WRITERS; t++) {
+            final int thread = t;
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < SAVES_PER_WRITER; i++) {
+                    repository.save(employee(thread + "-" + i));
+                }
+                return null;
+            }));
+        }
+        final var cursor = new long[1];
+        final var pageRows = new int[1];
+        boolean writersDone;
+        do {
+            writersDone = writers.stream().allMatch(Future::isDone);
+            pageRows[0] = 0;
+            repository.forEachAfter(cursor[0], (sequence, mockEmployee) -> {
+                if (!seen.add(mockEmployee.getId())) {
+                    duplicates.incrementAndGet();
+                }
+                cursor[0] = sequence;
+                return ++pageRows[0] < pageSize;
+            });
+        } while (!writersDone || pageRows[0] > 0);
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(duplicates.get()).isZero();
+        assertThat(seen).hasSize(WRITERS * SAVES_PER_WRITER);
+    }
+
+    @Test
+    void saveAll_ExistingId_SavesNothing() {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        final var existing = repository.save(employee("Existing"));
+        final var batch = List.of(employee("New"), existing);
+
+        // Act
+        final var thrown = catchThrowable(() -> repository.saveAll(batch));
+
+        // Assert
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(repository.findAll()).containsExactly(existing);
+    }
+
+    @Test
+    void removeFirstByNames_RepeatedName_RemovesInOrder() {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        final var first = repository.save(employee("Twin"));
+        final var second = repository.save(employee("twin"));
+
+        // Act
+        final var removed = repository.removeFirstByNames(List.of("TWIN", "Twin", "twin"));
+
+        // Assert
+        assertThat(removed).containsExactly(Optional.of(first), Optional.of(second), Optional.empty());
+        assertThat(repository.size()).isZero();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
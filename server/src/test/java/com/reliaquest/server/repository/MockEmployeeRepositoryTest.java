@@ -0,0 +1,155 @@
+package com.reliaquest.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRepositoryTest {
+
+    private static final List<String> NON_ASCII_NAMES = List.of(
+            "\u0130stanbul", // capital I with dot above
+            "istanbul",
+            "\u0131stanbul", // dotless small i
+            "ISTANBUL",
+            "Stra\u00dfe",
+            "STRASSE",
+            "\u03a3\u03af\u03c3\u03c5\u03c6\u03bf\u03c2", // final sigma
+            "\u03a3\u038a\u03a3\u03a5\u03a6\u039f\u03a3",
+            "\u03c3\u03af\u03c3\u03c5\u03c6\u03bf\u03c3",
+            "\u01c4ivko", // DZ with caron in upper, title and lower case
+            "\u01c5ivko",
+            "\u01c6ivko",
+            "\u212avist", // Kelvin sign
+            "kvist",
+            "\u00c5ngstr\u00f6m",
+            "\u212bngstr\u00f6m", // Angstrom sign
+            "\u00e5NGSTR\u00d6M",
+            "\ud801\udc00\ud801\udc2f", // Deseret, outside the BMP
+            "\ud801\udc28\ud801\udc57");
+
+    @Test
+    void foldCase_NonAsciiNames_FoldEquallyExactlyWhenEqualIgnoringCase() {
+        // Act / Assert
+        for (String first : NON_ASCII_NAMES) {
+            for (String second : NON_ASCII_NAMES) {
+                assertThat(MockEmployeeRepository.foldCase(first).equals(MockEmployeeRepository.foldCase(second)))
+                        .as("%s vs %s", first, second)
+                        .isEqualTo(first.equalsIgnoreCase(second));
+            }
+        }
+    }
+
+    @Test
+    void foldCase_EveryCodePointAndItsCaseVariants_FoldEquallyExactlyWhenEqualIgnoringCase() {
+        // Act
+        final var mismatches = new ArrayList<String>();
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            final var name = Character.toString(codePoint);
+            for (int variant : new int[] {
+                Character.toUpperCase(codePoint), Character.toLowerCase(codePoint), Character.toTitleCase(codePoint)
+            }) {
+                final var other = Character.toString(variant);
+                final var foldsEqually = MockEmployeeRepository.foldCase(name)
+                        .equals(MockEmployeeRepository.foldCase(other));
+                if (foldsEqually != name.equalsIgnoreCase(other)) {
+                    mismatches.add("U+%04X vs U+%04X".formatted(codePoint, variant));
+                }
+            }
+        }
+
+        // Assert
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void findFirstByName_DifferentCase_ReturnsEarliestInserted() {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        final var first = repository.save(employee("\u0130pek Y\u0131lmaz"));
+        repository.save(employee("Someone Else"));
+        repository.save(employee("\u0130PEK YILMAZ"));
+
+        // Act
+        final var found = repository.findFirstByName("ipek yilmaz");
+
+        // Assert
+        assertThat(found).contains(first);
+        assertThat(repository.findFirstByName("Nobody")).isEmpty();
+    }
+
+    @Test
+    void removeFirstByName_SameNameInMixedCase_RemovesInInsertionOrder() {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        final var first = repository.save(employee("Zo\u00eb Adams"));
+        repository.save(employee("Someone Else"));
+        final var second = repository.save(employee("ZO\u00cb ADAMS"));
+        final var third = repository.save(employee("zo\u00eb adams"));
+
+        // Act
+        final var removed = new ArrayList<Optional<MockEmployee>>();
+        for (int i = 0; i < 4; i++) {
+            removed.add(repository.removeFirstByName("Zo\u00eb adams"));
+        }
+
+        // Assert
+        assertThat(removed)
+                .containsExactly(Optional.of(first), Optional.of(second), Optional.of(third), Optional.empty());
+        assertThat(repository.findAll()).extracting(MockEmployee::getName).containsExactly("Someone Else");
+    }
+
+    @Test
+    void removeFirstByName_NameSavedAgain_QueuesNewEmployeeLast() {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        final var first = repository.save(employee("Twin"));
+        final var second = repository.save(employee("Twin"));
+        repository.removeFirstByName("twin");
+        final var third = repository.save(employee("TWIN"));
+
+        // Act
+        final var found = repository.findFirstByName("Twin");
+        final var removed = repository.removeFirstByName("Twin");
+
+        // Assert
+        assertThat(found).contains(second);
+        assertThat(removed).contains(second);
+        assertThat(repository.findAll()).containsExactly(third);
+        assertThat(repository.findById(first.getId())).isEmpty();
+    }
+
+    @Test
+    void forEachAfter_StopsWhenVisitorDeclines() {
+        // Arrange
+        final var repository = new MockEmployeeRepository();
+        for (int i = 0; i < 5; i++) {
+            repository.save(employee("Employee " + i));
+        }
+        final var sequences = new ArrayList<Long>();
+
+        // Act
+        repository.forEachAfter(1, (sequence, mockEmployee) -> {
+            sequences.add(sequence);
+            return sequences.size() < 3;
+        });
+
+        // Assert
+        assertThat(sequences).containsExactly(2L, 3L, 4L);
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.server.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int SIZE = MockEmployeeGenerator.CHUNK_SIZE + 500;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generate_SameProfile_ProducesByteIdenticalRosters() throws Exception {
+        // Arrange
+        final var profile = profile(42L, SalaryDistribution.LOG_NORMAL, 0.1);
+        final var first = tempDir.resolve("first.jsonl");
+        final var second = tempDir.resolve("second.jsonl");
+
+        // Act
+        MockEmployeeSeedFile.write(first, new MockEmployeeGenerator(profile).generate());
+        MockEmployeeSeedFile.write(second, new MockEmployeeGenerator(profile).generate());
+
+        // Assert
+        assertThat(Files.mismatch(first, second)).isEqualTo(-1L);
+    }
+
+    @Test
+    void generate_DifferentSeeds_ProduceDifferentRosters() {
+        // Act
+        final var first = new MockEmployeeGenerator(profile(1L, SalaryDistribution.UNIFORM, 0)).generate();
+        final var second = new MockEmployeeGenerator(profile(2L, SalaryDistribution.UNIFORM, 0)).generate();
+
+        // Assert
+        assertThat(MockEmployeeGenerator.fingerprint(first)).isNotEqualTo(MockEmployeeGenerator.fingerprint(second));
+    }
+
+    @Test
+    void generate_NameCollisionRate_RepeatsNames() {
+        // Act
+        final var mockEmployees = new MockEmployeeGenerator(profile(7L, SalaryDistribution.UNIFORM, 0.5)).generate();
+
+        // Assert
+        final long distinctNames =
+                mockEmployees.stream().map(MockEmployee::getName).distinct().count();
+        assertThat(mockEmployees).hasSize(SIZE);
+        assertThat(distinctNames).isLessThan(SIZE * 6L / 10);
+        assertThat(new HashSet<>(mockEmployees.stream().map(MockEmployee::getId).toList()))
+                .hasSize(SIZE);
+    }
+
+    @Test
+    void generate_AnyDistribution_KeepsSalariesInRange() {
+        for (SalaryDistribution distribution : SalaryDistribution.values()) {
+            // Act
+            final var mockEmployees = new MockEmployeeGenerator(profile(3L, distribution, 0)).generate();
+
+            // Assert
+            assertThat(mockEmployees)
+                    .extracting(MockEmployee::getSalary)
+                    .allSatisfy(salary -> assertThat(salary).isBetween(30_000, 499_999));
+        }
+    }
+
+    private static GenerationProfile profile(long seed, SalaryDistribution distribution, double nameCollisionRate) {
+        return new GenerationProfile(seed, SIZE, Locale.US, distribution, 30_000, 500_000, nameCollisionRate);
+    }
+}
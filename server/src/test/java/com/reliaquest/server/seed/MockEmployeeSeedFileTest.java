@@ -0,0 +1,149 @@
+package com.reliaquest.server.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MockEmployeeSeedFileTest {
+
+    private static final List<MockEmployee> ROSTER = List.of(
+            new MockEmployee(UUID.randomUUID(), "Tiger Nixon", 320_800, 61, "System Architect", "tiger@company.com"),
+            new MockEmployee(UUID.randomUUID(), "Zo\u00eb \u00c5ngstr\u00f6m", null, null, null, null),
+            new MockEmployee(UUID.randomUUID(), null, 86_000, 22, "Junior Technical Author", "ashton@company.com"));
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"roster.jsonl", "roster.bin"})
+    void read_WrittenRoster_RoundTripsIncludingNullFields(String fileName) throws Exception {
+        // Arrange
+        final var path = tempDir.resolve(fileName);
+        MockEmployeeSeedFile.write(path, ROSTER);
+
+        // Act
+        final var mockEmployees = MockEmployeeSeedFile.read(path);
+
+        // Assert
+        assertThat(mockEmployees).containsExactlyElementsOf(ROSTER);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"empty.jsonl", "empty.bin"})
+    void read_WrittenEmptyRoster_ReturnsNoEmployees(String fileName) throws Exception {
+        // Arrange
+        final var path = tempDir.resolve(fileName);
+        MockEmployeeSeedFile.write(path, List.of());
+
+        // Act
+        final var mockEmployees = MockEmployeeSeedFile.read(path);
+
+        // Assert
+        assertThat(mockEmployees).isEmpty();
+    }
+
+    @Test
+    void read_EmptyJsonLinesFile_ReturnsNoEmployees() throws Exception {
+        // Arrange
+        final var path = Files.createFile(tempDir.resolve("blank.jsonl"));
+
+        // Act
+        final var mockEmployees = MockEmployeeSeedFile.read(path);
+
+        // Assert
+        assertThat(mockEmployees).isEmpty();
+    }
+
+    @Test
+    void read_CrlfLineEndings_ParsesEveryLine() throws Exception {
+        // Arrange
+        final var first = ROSTER.get(0);
+        final var second = ROSTER.get(1);
+        final var path = tempDir.resolve("windows.jsonl");
+        Files.writeString(
+                path,
+                "{\"id\":\"" + first.getId() + "\",\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800,"
+                        + "\"employee_age\":61,\"employee_title\":\"System Architect\","
+                        + "\"employee_email\":\"tiger@company.com\"}\r\n"
+                        + "\r\n"
+                        + "{\"id\":\"" + second.getId() + "\",\"employee_name\":\"Zo\u00eb \u00c5ngstr\u00f6m\","
+                        + "\"employee_salary\":null,\"employee_age\":null}\r\n",
+                StandardCharsets.UTF_8);
+
+        // Act
+        final var mockEmployees = MockEmployeeSeedFile.read(path);
+
+        // Assert
+        assertThat(mockEmployees).containsExactly(first, second);
+    }
+
+    @Test
+    void read_TruncatedBinaryFile_FailsWithEof() throws Exception {
+        // Arrange
+        final var path = tempDir.resolve("truncated.bin");
+        MockEmployeeSeedFile.write(path, ROSTER);
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        // Act / Assert
+        assertThatThrownBy(() -> MockEmployeeSeedFile.read(path)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void read_JsonLineWithoutId_Fails() throws Exception {
+        // Arrange
+        final var path = tempDir.resolve("anonymous.jsonl");
+        Files.writeString(path, "{\"employee_name\":\"Tiger Nixon\"}\n", StandardCharsets.UTF_8);
+
+        // Act / Assert
+        assertThatThrownBy(() -> MockEmployeeSeedFile.read(path))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("Employee without an id");
+    }
+
+    @Test
+    void read_JsonLineWithMalformedId_FailsWithLineOffset() throws Exception {
+        // Arrange
+        final var path = tempDir.resolve("malformed.jsonl");
+        final var valid = "{\"id\":\"" + UUID.randomUUID() + "\",\"employee_name\":\"Tiger Nixon\"}\n";
+        Files.writeString(path, valid + "{\"id\":\"not-a-uuid\"}\n", StandardCharsets.UTF_8);
+
+        // Act / Assert
+        assertThatThrownBy(() -> MockEmployeeSeedFile.read(path))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessage("Malformed employee line at byte " + valid.length())
+                .hasCauseInstanceOf(IOException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"anonymous.jsonl", "anonymous.bin"})
+    void write_EmployeeWithoutId_FailsWithoutWriting(String fileName) {
+        // Arrange
+        final var path = tempDir.resolve(fileName);
+        final var mockEmployees =
+                List.of(ROSTER.get(0), new MockEmployee(null, "Tiger Nixon", 320_800, 61, null, null));
+
+        // Act / Assert
+        assertThatThrownBy(() -> MockEmployeeSeedFile.write(path, mockEmployees))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Employee at index 1 has no id");
+        assertThat(path).doesNotExist();
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletOutputStream;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private static final byte[] BODY = "{\"data\":[],\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void doFilter_ErrorRateOne_AnswersErrorStatusWithoutHandling() throws Exception {
+        // Arrange
+        final var filter = filter("get-by-id", new FaultProfile(null, 1, 502, 0, null));
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee/42"), response, chain);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(502);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_ResetRateOne_EndsBeforeAnnouncedBody() throws Exception {
+        // Arrange
+        final var filter = filter("list", new FaultProfile(null, 0, null, 1, null));
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), response, chain);
+
+        // Assert
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getHeader("Connection")).isEqualTo("close");
+        assertThat(response.getContentAsByteArray()).hasSizeLessThan(response.getContentLength());
+    }
+
+    @Test
+    void doFilter_Drip_FlushesBodyInChunks() throws Exception {
+        // Arrange
+        final var filter = filter("list", new FaultProfile(null, 0, null, 0, new FaultProfile.Drip(8, Duration.ZERO)));
+        final var flushedSizes = new ArrayList<Integer>();
+        final var body = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushedSizes.add(size());
+            }
+        };
+        final var response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return new DelegatingServletOutputStream(body);
+            }
+        };
+        final var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse servletResponse) throws IOException {
+                servletResponse.getOutputStream().write(BODY);
+            }
+        });
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), response, chain);
+
+        // Assert
+        assertThat(body.toByteArray()).isEqualTo(BODY);
+        assertThat(flushedSizes).containsExactly(8, 16, 24);
+    }
+
+    @Test
+    void doFilter_EndpointWithoutProfile_PassesThrough() throws Exception {
+        // Arrange
+        final var filter = filter("list", new FaultProfile(null, 1, null, 0, null));
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/employee/batch"), response, chain);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private static FaultInjectionFilter filter(String endpoint, FaultProfile profile) {
+        return new FaultInjectionFilter(new FaultInjector(1, Map.of(endpoint, profile)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.query.EmployeeField;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class MockEmployeeResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writeHandled_Streaming_MatchesBufferedEnvelope() throws Exception {
+        // Arrange
+        final var mockEmployees = List.of(
+                employee("Tiger Nixon", 320_800),
+                MockEmployee.builder().id(UUID.randomUUID()).name("No \"Salary\"").build(),
+                employee("Zo\u00EB \u00C5str\u00F6m", 90_000));
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        new MockEmployeeResponseWriter(objectMapper, true).writeHandled(mockEmployees, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentAsByteArray())
+                .isEqualTo(objectMapper.writeValueAsBytes(Response.handledWith(mockEmployees)));
+    }
+
+    @Test
+    void writeHandled_EmptyRoster_StreamsEmptyData() throws Exception {
+        // Arrange
+        final var streamed = new MockHttpServletResponse();
+        final var buffered = new MockHttpServletResponse();
+
+        // Act
+        new MockEmployeeResponseWriter(objectMapper, true).writeHandled(List.of(), streamed);
+        new MockEmployeeResponseWriter(objectMapper, false).writeHandled(List.of(), buffered);
+
+        // Assert
+        assertThat(streamed.getContentAsString())
+                .isEqualTo("{\"data\":[],\"status\":\"Successfully processed request.\"}");
+        assertThat(streamed.getContentAsByteArray()).isEqualTo(buffered.getContentAsByteArray());
+    }
+
+    @Test
+    void writeHandled_Projection_WritesIdAndRequestedFieldsInBothModes() throws Exception {
+        // Arrange
+        final var mockEmployee = employee("Tiger Nixon", 320_800);
+        final var fields = EnumSet.of(EmployeeField.NAME, EmployeeField.SALARY);
+        final var streamed = new MockHttpServletResponse();
+        final var buffered = new MockHttpServletResponse();
+
+        // Act
+        new MockEmployeeResponseWriter(objectMapper, true).writeHandled(List.of(mockEmployee), fields, streamed);
+        new MockEmployeeResponseWriter(objectMapper, false).writeHandled(List.of(mockEmployee), fields, buffered);
+
+        // Assert
+        assertThat(streamed.getContentAsString())
+                .isEqualTo("{\"data\":[{\"id\":\"" + mockEmployee.getId()
+                        + "\",\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800}],"
+                        + "\"status\":\"Successfully processed request.\"}");
+        assertThat(streamed.getContentAsByteArray()).isEqualTo(buffered.getContentAsByteArray());
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(61)
+                .title("System Architect")
+                .email("tnixon@company.com")
+                .build();
+    }
+}
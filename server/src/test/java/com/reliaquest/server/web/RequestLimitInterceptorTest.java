@@ -0,0 +1,64 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.ratelimit.KeyedRequestLimiter;
+import com.reliaquest.server.ratelimit.TokenBucketLimiter;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimitInterceptorTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void preHandle_OverGlobalLimit_RejectsWithRetryAfterRoundedUp() {
+        // Arrange
+        final var interceptor = new RequestLimitInterceptor(
+                new TokenBucketLimiter(2, Duration.ofSeconds(3)), null, "X-Client-Id", now::get);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        final var admitted = interceptor.preHandle(new MockHttpServletRequest(), response, null);
+
+        // Assert
+        assertThat(admitted).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+    }
+
+    @Test
+    void preHandle_PerClientLimit_KeysByHeaderThenRemoteAddress() {
+        // Arrange
+        final var interceptor = new RequestLimitInterceptor(
+                null,
+                new KeyedRequestLimiter(() -> new TokenBucketLimiter(1, Duration.ofMinutes(1)), 100),
+                "X-Client-Id",
+                now::get);
+
+        // Act
+        final var first = interceptor.preHandle(request("alpha"), new MockHttpServletResponse(), null);
+        final var repeated = interceptor.preHandle(request("alpha"), new MockHttpServletResponse(), null);
+        final var otherClient = interceptor.preHandle(request("beta"), new MockHttpServletResponse(), null);
+        final var byAddress = interceptor.preHandle(request(null), new MockHttpServletResponse(), null);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(repeated).isFalse();
+        assertThat(otherClient).isTrue();
+        assertThat(byAddress).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+        final var request = new MockHttpServletRequest();
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}